@@ -9,9 +9,11 @@ group = "io.realworld"
 version = "0.0.1-SNAPSHOT"
 description = "Demo project for Spring Boot"
 
+// 기본은 Java 17, 가상 스레드 실행 모드(virtual 프로필)용으로 Java 21 빌드 가능
+// 예: gradle build -PjavaVersion=21
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(project.findProperty("javaVersion")?.toString()?.toInt() ?: 17)
 	}
 }
 
@@ -21,6 +23,23 @@ configurations {
 	}
 }
 
+// JMH 벤치마크(src/jmh/java) 및 부하 테스트(src/loadtest/java) 소스셋
+listOf("jmh", "loadtest").forEach { name ->
+	sourceSets.create(name) {
+		compileClasspath += sourceSets.main.get().output
+		runtimeClasspath += sourceSets.main.get().output
+	}
+	configurations.named("${name}Implementation") {
+		extendsFrom(configurations.implementation.get())
+	}
+	configurations.named("${name}RuntimeOnly") {
+		extendsFrom(configurations.runtimeOnly.get())
+	}
+	configurations.named("${name}CompileOnly") {
+		extendsFrom(configurations.compileOnly.get())
+	}
+}
+
 repositories {
 	mavenCentral()
 }
@@ -31,6 +50,8 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-cache")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	implementation("org.flywaydb:flyway-core")
 
 	// SQLite 데이터베이스
@@ -51,12 +72,57 @@ dependencies {
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.security:spring-security-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+	// JMH 벤치마크
+	"jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+	"jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+	"jmhAnnotationProcessor"("org.projectlombok:lombok")
+
+	// 부하 테스트
+	"loadtestAnnotationProcessor"("org.projectlombok:lombok")
+	"loadtestAnnotationProcessor"("org.springframework.boot:spring-boot-configuration-processor")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
 
+// JMH 벤치마크 실행 (GC 프로파일러로 할당량 측정)
+// 예: gradle jmh -Pjmh.includes=JwtBenchmark
+tasks.register<JavaExec>("jmh") {
+	group = "benchmark"
+	description = "JMH 벤치마크를 실행하고 결과를 build/reports/jmh/results.json에 저장"
+	dependsOn(tasks.named("jmhClasses"))
+	classpath = sourceSets["jmh"].runtimeClasspath
+	mainClass.set("org.openjdk.jmh.Main")
+
+	val resultFile = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+	doFirst {
+		resultFile.parentFile.mkdirs()
+	}
+	args("-prof", "gc", "-rf", "json", "-rff", resultFile.absolutePath)
+	project.findProperty("jmh.includes")?.let { args(it.toString()) }
+}
+
+// HTTP 부하 테스트 실행 (합성 데이터셋 생성 후 혼합 워크로드 구동)
+// 예: gradle loadTest -Ploadtest.args="--loadtest.users=2000 --loadtest.duration=2m"
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "합성 데이터셋으로 부하 테스트를 실행하고 결과를 build/reports/loadtest에 저장"
+	dependsOn(tasks.named("loadtestClasses"))
+	classpath = sourceSets["loadtest"].runtimeClasspath
+	mainClass.set("io.realworld.loadtest.LoadTestApplication")
+	workingDir = projectDir
+
+	val workDir = layout.buildDirectory.dir("loadtest").get().asFile
+	doFirst {
+		// 매 실행마다 빈 데이터베이스에서 시작
+		workDir.deleteRecursively()
+		workDir.mkdirs()
+	}
+	project.findProperty("loadtest.args")?.let { args(it.toString().split(" ").filter { arg -> arg.isNotBlank() }) }
+}
+
 checkstyle {
 	toolVersion = "10.12.0"
 	maxWarnings = 0
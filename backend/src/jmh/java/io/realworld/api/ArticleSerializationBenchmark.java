@@ -0,0 +1,104 @@
+package io.realworld.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.realworld.api.dto.ArticleListResponse;
+import io.realworld.api.dto.ArticleResponse;
+import io.realworld.domain.Article;
+import io.realworld.domain.BaseTimeEntity;
+import io.realworld.domain.Tag;
+import io.realworld.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아티클 목록 응답 변환 및 JSON 직렬화 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Article> articles;
+    private List<ArticleResponse> responses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        User author = User.builder()
+                .username("benchmark-author")
+                .email("author@example.com")
+                .password("password")
+                .bio("Writes benchmarks for a living")
+                .image("https://example.com/avatar.png")
+                .build();
+        List<Tag> tags = List.of(new Tag("java"), new Tag("spring"), new Tag("performance"));
+
+        articles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Article article = Article.builder()
+                    .slug("benchmark-article-" + i)
+                    .title("Benchmark article " + i)
+                    .description("A short description of article " + i)
+                    .body("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(20))
+                    .author(author)
+                    .build();
+            tags.forEach(article::addTag);
+            setTimestamps(article, LocalDateTime.now().minusMinutes(i));
+            articles.add(article);
+        }
+        responses = toResponses();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> toResponses() {
+        List<ArticleResponse> result = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            result.add(ArticleResponse.of(article, false, false));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ArticleListResponse.of(responses, responses.size()));
+    }
+
+    @Benchmark
+    public byte[] toResponsesAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ArticleListResponse.of(toResponses(), articles.size()));
+    }
+
+    private static void setTimestamps(Article article, LocalDateTime time) {
+        for (String name : List.of("createdAt", "updatedAt")) {
+            Field field = ReflectionUtils.findField(BaseTimeEntity.class, name);
+            ReflectionUtils.makeAccessible(field);
+            ReflectionUtils.setField(field, article, time);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.realworld.config;
+
+import io.realworld.api.dto.UserResponse;
+import io.realworld.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 wrapping 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseWrapperBenchmark {
+
+    private ResponseWrapper responseWrapper;
+    private UserResponse userResponse;
+
+    @Setup
+    public void setUp() {
+        responseWrapper = new ResponseWrapper();
+        User user = User.builder()
+                .username("benchmark-user")
+                .email("user@example.com")
+                .password("password")
+                .build();
+        userResponse = UserResponse.of(user, "benchmark.jwt.token");
+    }
+
+    @Benchmark
+    public Object beforeBodyWrite() {
+        return responseWrapper.beforeBodyWrite(userResponse, null, null, null, null, null);
+    }
+}
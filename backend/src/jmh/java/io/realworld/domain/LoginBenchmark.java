@@ -0,0 +1,96 @@
+package io.realworld.domain;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.realworld.api.dto.LoginRequest;
+import io.realworld.api.dto.UserResponse;
+import io.realworld.security.AuthenticatedUser;
+import io.realworld.security.JwtTokenProvider;
+import io.realworld.security.PrincipalCache;
+import io.realworld.security.TokenRenewer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 (BCrypt 비밀번호 검증) 벤치마크
+ * SecurityConfig와 같은 BCrypt 설정을 사용하고 DB 조회 비용은 제외한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginBenchmark {
+
+    private static final String SECRET = "realworld-secret-key-for-jwt-token-signing-minimum-256-bits-required";
+    private static final String PASSWORD = "benchmark-password";
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+    private UserService userService;
+    private LoginRequest loginRequest;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder();
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+        User user = User.builder()
+                .username("benchmark-user")
+                .email("user@example.com")
+                .password(encodedPassword)
+                .build();
+
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByEmail")) {
+                        return Optional.of(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+
+        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
+        authProvider.setUserDetailsService(username -> new AuthenticatedUser(user));
+        authProvider.setPasswordEncoder(passwordEncoder);
+
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 86400000L);
+        userService = new UserService(
+                userRepository,
+                passwordEncoder,
+                jwtTokenProvider,
+                new ProviderManager(authProvider),
+                new PrincipalCache(false, Duration.ZERO, 0, new SimpleMeterRegistry()),
+                new TokenRenewer(jwtTokenProvider, 0.5, new SimpleMeterRegistry())
+        );
+        loginRequest = new LoginRequest(user.getEmail(), PASSWORD);
+    }
+
+    @Benchmark
+    public boolean passwordMatches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public UserResponse login() {
+        return userService.login(loginRequest);
+    }
+}
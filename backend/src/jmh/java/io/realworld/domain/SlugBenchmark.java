@@ -0,0 +1,63 @@
+package io.realworld.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아티클 slug 생성 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlugBenchmark {
+
+    @Param({
+        "How to train your dragon",
+        "Ünïcödé   títle -- with  separators and a fairly long tail of words to normalize"
+    })
+    private String title;
+
+    private SlugAllocator slugAllocator;
+
+    @Setup
+    public void setUp() {
+        // slug 조회만 응답하는 저장소 (DB 비용 제외)
+        ArticleRepository articleRepository = (ArticleRepository) Proxy.newProxyInstance(
+                ArticleRepository.class.getClassLoader(),
+                new Class<?>[]{ArticleRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findSlugsWithBase")) {
+                        return List.of();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+        slugAllocator = new SlugAllocator(articleRepository);
+    }
+
+    @Benchmark
+    public String toSlug() {
+        return SlugAllocator.toSlug(title);
+    }
+
+    @Benchmark
+    public String allocate() {
+        return slugAllocator.allocate(title);
+    }
+}
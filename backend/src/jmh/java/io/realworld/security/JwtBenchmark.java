@@ -0,0 +1,60 @@
+package io.realworld.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "realworld-secret-key-for-jwt-token-signing-minimum-256-bits-required";
+    private static final long EXPIRATION = 86400000L;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenProvider cachingJwtTokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, EXPIRATION);
+        cachingJwtTokenProvider = new JwtTokenProvider(SECRET, EXPIRATION, 10000);
+        authentication = new UsernamePasswordAuthenticationToken("benchmark-user", null);
+        token = jwtTokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> parseAndValidateCached() {
+        return cachingJwtTokenProvider.parseAndValidate(token);
+    }
+}
@@ -0,0 +1,23 @@
+package io.realworld.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 생성된 합성 데이터셋
+ * 목록은 인기 순위 순서 (인덱스 0이 Zipf 분포에서 가장 자주 선택됨)
+ */
+@Getter
+@RequiredArgsConstructor
+public class Dataset {
+
+    public static final String PASSWORD = "loadtest-password";
+
+    private final List<String> usernames;
+    private final List<String> emails;
+    private final List<String> tokens;
+    private final List<String> tags;
+    private final List<String> slugs;
+}
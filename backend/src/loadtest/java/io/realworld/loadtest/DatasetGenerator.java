@@ -0,0 +1,196 @@
+package io.realworld.loadtest;
+
+import io.realworld.domain.Article;
+import io.realworld.domain.ArticleRepository;
+import io.realworld.domain.Comment;
+import io.realworld.domain.CommentRepository;
+import io.realworld.domain.Favorite;
+import io.realworld.domain.FavoriteRepository;
+import io.realworld.domain.FeedService;
+import io.realworld.domain.Follow;
+import io.realworld.domain.FollowRepository;
+import io.realworld.domain.Tag;
+import io.realworld.domain.TagRepository;
+import io.realworld.domain.User;
+import io.realworld.domain.UserRepository;
+import io.realworld.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 합성 RealWorld 데이터셋 생성기
+ * 기존 저장소를 통해 사용자, 멱법칙 팔로우 그래프, Zipf 태그 분포의 아티클, 좋아요, 댓글을 생성한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetGenerator {
+
+    private static final int MAX_TAGS_PER_ARTICLE = 4;
+
+    private final LoadTestProperties properties;
+    private final UserRepository userRepository;
+    private final TagRepository tagRepository;
+    private final ArticleRepository articleRepository;
+    private final FollowRepository followRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final CommentRepository commentRepository;
+    private final FeedService feedService;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 데이터셋 생성
+     */
+    public Dataset generate() {
+        Random random = new Random(properties.getSeed());
+        long started = System.currentTimeMillis();
+
+        List<User> users = transactionTemplate.execute(status -> createUsers());
+        List<Tag> tags = transactionTemplate.execute(status -> createTags());
+        List<Article> articles = transactionTemplate.execute(status -> createArticles(users, tags, random));
+        int follows = transactionTemplate.execute(status -> createFollows(users, random));
+        int favorites = transactionTemplate.execute(status -> createFavorites(users, articles, random));
+        int comments = transactionTemplate.execute(status -> createComments(users, articles, random));
+
+        log.info("Dataset generated in {} ms: users={}, tags={}, articles={}, follows={}, favorites={}, comments={}",
+                System.currentTimeMillis() - started, users.size(), tags.size(), articles.size(),
+                follows, favorites, comments);
+
+        return new Dataset(
+                users.stream().map(User::getUsername).toList(),
+                users.stream().map(User::getEmail).toList(),
+                users.stream().map(user -> jwtTokenProvider.generateToken(
+                        new UsernamePasswordAuthenticationToken(user.getUsername(), null))).toList(),
+                tags.stream().map(Tag::getName).toList(),
+                articles.stream().map(Article::getSlug).toList()
+        );
+    }
+
+    /**
+     * 사용자 생성 (BCrypt 비용을 줄이기 위해 모든 사용자가 같은 비밀번호 해시를 공유)
+     */
+    private List<User> createUsers() {
+        String encodedPassword = passwordEncoder.encode(Dataset.PASSWORD);
+        List<User> users = new ArrayList<>(properties.getUsers());
+        for (int i = 0; i < properties.getUsers(); i++) {
+            users.add(User.builder()
+                    .username("user" + i)
+                    .email("user" + i + "@loadtest.example.com")
+                    .password(encodedPassword)
+                    .bio("Synthetic user #" + i)
+                    .build());
+        }
+        return userRepository.saveAll(users);
+    }
+
+    private List<Tag> createTags() {
+        List<Tag> tags = new ArrayList<>(properties.getTags());
+        for (int i = 0; i < properties.getTags(); i++) {
+            tags.add(new Tag("tag" + i));
+        }
+        return tagRepository.saveAll(tags);
+    }
+
+    /**
+     * 아티클 생성 (작성자는 균등 분포, 태그는 Zipf 분포) 후 태그 사용 횟수 재계산
+     */
+    private List<Article> createArticles(List<User> users, List<Tag> tags, Random random) {
+        ZipfSampler tagSampler = new ZipfSampler(tags.size(), properties.getTagExponent());
+        List<Article> articles = new ArrayList<>(properties.getArticles());
+        for (int i = 0; i < properties.getArticles(); i++) {
+            Article article = Article.builder()
+                    .slug("synthetic-article-" + i)
+                    .title("Synthetic article " + i)
+                    .description("Description of synthetic article " + i)
+                    .body(("Body of synthetic article " + i + ". ").repeat(1 + random.nextInt(50)))
+                    .author(users.get(random.nextInt(users.size())))
+                    .build();
+            Set<Integer> tagRanks = new HashSet<>();
+            int tagCount = random.nextInt(MAX_TAGS_PER_ARTICLE + 1);
+            for (int t = 0; t < tagCount; t++) {
+                int rank = tagSampler.next(random);
+                if (tagRanks.add(rank)) {
+                    article.addTag(tags.get(rank));
+                }
+            }
+            articles.add(article);
+        }
+        List<Article> saved = articleRepository.saveAll(articles);
+        tagRepository.refreshUsageCounts(tags.stream().map(Tag::getId).toList());
+        return saved;
+    }
+
+    /**
+     * 팔로우 그래프 생성
+     * 팔로우 대상을 Zipf 분포로 선택하여 팔로워 수가 멱법칙을 따르도록 하고,
+     * 실제 팔로우와 같이 팔로워 수와 피드를 함께 갱신한다
+     */
+    private int createFollows(List<User> users, Random random) {
+        ZipfSampler followSampler = new ZipfSampler(users.size(), properties.getFollowExponent());
+        int created = 0;
+        for (User follower : users) {
+            Set<Integer> followed = new HashSet<>();
+            int followCount = random.nextInt(2 * properties.getFollowsPerUser() + 1);
+            for (int f = 0; f < followCount; f++) {
+                int rank = followSampler.next(random);
+                User following = users.get(rank);
+                if (following == follower || !followed.add(rank)) {
+                    continue;
+                }
+                followRepository.save(new Follow(follower, following));
+                userRepository.incrementFollowersCount(following.getId());
+                following.applyFollowersCountDelta(1);
+                feedService.onFollow(follower, following);
+                created++;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * 좋아요 생성 (대상 아티클은 Zipf 분포) 후 좋아요 수 컬럼 재계산
+     */
+    private int createFavorites(List<User> users, List<Article> articles, Random random) {
+        ZipfSampler articleSampler = new ZipfSampler(articles.size(), properties.getArticleExponent());
+        Set<Long> created = new HashSet<>();
+        for (int i = 0; i < properties.getFavorites(); i++) {
+            int userIndex = random.nextInt(users.size());
+            int articleRank = articleSampler.next(random);
+            if (created.add((long) userIndex * articles.size() + articleRank)) {
+                favoriteRepository.save(new Favorite(users.get(userIndex), articles.get(articleRank)));
+            }
+        }
+        articleRepository.reconcileFavoritesCounts();
+        return created.size();
+    }
+
+    /**
+     * 댓글 생성 (대상 아티클은 Zipf 분포) 후 댓글 수 컬럼 재계산
+     */
+    private int createComments(List<User> users, List<Article> articles, Random random) {
+        ZipfSampler articleSampler = new ZipfSampler(articles.size(), properties.getArticleExponent());
+        List<Comment> comments = new ArrayList<>(properties.getComments());
+        for (int i = 0; i < properties.getComments(); i++) {
+            comments.add(Comment.builder()
+                    .body("Synthetic comment " + i)
+                    .article(articles.get(articleSampler.next(random)))
+                    .author(users.get(random.nextInt(users.size())))
+                    .build());
+        }
+        commentRepository.saveAll(comments);
+        articleRepository.reconcileCommentsCounts();
+        return comments.size();
+    }
+}
@@ -0,0 +1,200 @@
+package io.realworld.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 혼합 읽기/쓰기 워크로드로 실제 엔드포인트를 호출하고 라우트별 지연 시간을 기록
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoadDriver {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_OFFSET = 200;
+
+    private final LoadTestProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 워밍업 후 측정 구간 동안 워크로드 실행
+     */
+    public LoadReport run(String baseUrl, Dataset dataset) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Map<Operation, Timer> timers = new EnumMap<>(Operation.class);
+        Map<Operation, Counter> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            timers.put(operation, Timer.builder("loadtest.requests")
+                    .tag("route", operation.getRoute())
+                    .publishPercentiles(0.5, 0.9, 0.95, 0.99)
+                    .distributionStatisticExpiry(properties.getDuration().plus(properties.getWarmup()).multipliedBy(2))
+                    .distributionStatisticBufferLength(1)
+                    .register(registry));
+            errors.put(operation, Counter.builder("loadtest.errors")
+                    .tag("route", operation.getRoute())
+                    .register(registry));
+        }
+
+        WorkloadMix mix = new WorkloadMix(properties.getMix());
+        ZipfSampler articleSampler = new ZipfSampler(dataset.getSlugs().size(), properties.getArticleExponent());
+        ZipfSampler userSampler = new ZipfSampler(dataset.getUsernames().size(), properties.getFollowExponent());
+        ZipfSampler tagSampler = new ZipfSampler(dataset.getTags().size(), properties.getTagExponent());
+
+        AtomicBoolean recording = new AtomicBoolean(false);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong createdArticles = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getConcurrency());
+        for (int worker = 0; worker < properties.getConcurrency(); worker++) {
+            Random random = new Random(properties.getSeed() + worker);
+            executor.submit(() -> {
+                while (running.get()) {
+                    Operation operation = mix.next(random);
+                    HttpRequest request = buildRequest(
+                            baseUrl, operation, dataset, random,
+                            articleSampler, userSampler, tagSampler, createdArticles);
+                    long started = System.nanoTime();
+                    boolean success = send(httpClient, request);
+                    long elapsed = System.nanoTime() - started;
+                    if (recording.get()) {
+                        timers.get(operation).record(elapsed, TimeUnit.NANOSECONDS);
+                        if (!success) {
+                            errors.get(operation).increment();
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+
+        log.info("Warming up for {}", properties.getWarmup());
+        Thread.sleep(properties.getWarmup().toMillis());
+        recording.set(true);
+        log.info("Measuring for {} with {} workers", properties.getDuration(), properties.getConcurrency());
+        long measureStarted = System.nanoTime();
+        Thread.sleep(properties.getDuration().toMillis());
+        recording.set(false);
+        double measuredSeconds = (System.nanoTime() - measureStarted) / 1e9;
+        running.set(false);
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        List<LoadReport.RouteResult> results = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            Timer timer = timers.get(operation);
+            if (timer.count() == 0) {
+                continue;
+            }
+            results.add(LoadReport.RouteResult.of(
+                    operation.getRoute(), timer, (long) errors.get(operation).count(), measuredSeconds));
+        }
+        return new LoadReport(properties.getConcurrency(), measuredSeconds, results);
+    }
+
+    private boolean send(HttpClient httpClient, HttpRequest request) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpRequest buildRequest(
+            String baseUrl,
+            Operation operation,
+            Dataset dataset,
+            Random random,
+            ZipfSampler articleSampler,
+            ZipfSampler userSampler,
+            ZipfSampler tagSampler,
+            AtomicLong createdArticles
+    ) {
+        int userIndex = random.nextInt(dataset.getUsernames().size());
+        String token = dataset.getTokens().get(userIndex);
+        String slug = dataset.getSlugs().get(articleSampler.next(random));
+        String otherUser = dataset.getUsernames().get(userSampler.next(random));
+
+        return switch (operation) {
+            case LIST_ARTICLES -> get(baseUrl + "/api/articles?limit=" + PAGE_SIZE
+                    + "&offset=" + PAGE_SIZE * random.nextInt(MAX_OFFSET / PAGE_SIZE), null);
+            case LIST_ARTICLES_BY_TAG -> get(baseUrl + "/api/articles?limit=" + PAGE_SIZE
+                    + "&tag=" + dataset.getTags().get(tagSampler.next(random)), null);
+            case FEED -> get(baseUrl + "/api/articles/feed?limit=" + PAGE_SIZE, token);
+            case GET_ARTICLE -> get(baseUrl + "/api/articles/" + slug, token);
+            case LIST_COMMENTS -> get(baseUrl + "/api/articles/" + slug + "/comments", token);
+            case GET_PROFILE -> get(baseUrl + "/api/profiles/" + otherUser, token);
+            case FAVORITE -> request(random.nextBoolean() ? "POST" : "DELETE",
+                    baseUrl + "/api/articles/" + slug + "/favorite", token, null);
+            case ADD_COMMENT -> request("POST", baseUrl + "/api/articles/" + slug + "/comments", token,
+                    Map.of("comment", Map.of("body", "Load test comment")));
+            case CREATE_ARTICLE -> request("POST", baseUrl + "/api/articles", token,
+                    Map.of("article", Map.of(
+                            "title", "Load test article " + createdArticles.incrementAndGet(),
+                            "description", "Created by the load test",
+                            "body", "Load test body",
+                            "tagList", List.of(dataset.getTags().get(tagSampler.next(random))))));
+            case FOLLOW -> request(random.nextBoolean() ? "POST" : "DELETE",
+                    baseUrl + "/api/profiles/" + otherUser + "/follow", token, null);
+            case LOGIN -> request("POST", baseUrl + "/api/users/login", null,
+                    Map.of("user", Map.of(
+                            "email", dataset.getEmails().get(userIndex),
+                            "password", Dataset.PASSWORD)));
+        };
+    }
+
+    private HttpRequest get(String url, String token) {
+        return request("GET", url, token, null);
+    }
+
+    private HttpRequest request(String method, String url, String token, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Token " + token);
+        }
+        return builder.method(method, body != null
+                ? HttpRequest.BodyPublishers.ofByteArray(toJson(body))
+                : HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.realworld.loadtest;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 결과 (라우트별 처리량 및 지연 시간 백분위수)
+ */
+@Getter
+@RequiredArgsConstructor
+public class LoadReport {
+
+    private final int concurrency;
+    private final double durationSeconds;
+    private final List<RouteResult> routes;
+
+    /**
+     * 결과 표 출력용 문자열
+     */
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-45s %8s %9s %8s %8s %8s %8s %8s %7s%n",
+                "route", "count", "req/s", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)", "errors"));
+        for (RouteResult route : routes) {
+            table.append(String.format("%-45s %8d %9.1f %8.1f %8.1f %8.1f %8.1f %8.1f %7d%n",
+                    route.getRoute(), route.getCount(), route.getThroughput(),
+                    route.getPercentilesMillis().getOrDefault("p50", 0.0),
+                    route.getPercentilesMillis().getOrDefault("p90", 0.0),
+                    route.getPercentilesMillis().getOrDefault("p95", 0.0),
+                    route.getPercentilesMillis().getOrDefault("p99", 0.0),
+                    route.getMaxMillis(), route.getErrors()));
+        }
+        long total = routes.stream().mapToLong(RouteResult::getCount).sum();
+        table.append(String.format("total %d requests in %.1fs (%.1f req/s) with %d workers%n",
+                total, durationSeconds, total / durationSeconds, concurrency));
+        return table.toString();
+    }
+
+    /**
+     * 라우트별 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class RouteResult {
+
+        private final String route;
+        private final long count;
+        private final long errors;
+        private final double throughput;
+        private final double meanMillis;
+        private final double maxMillis;
+        private final Map<String, Double> percentilesMillis;
+
+        public static RouteResult of(String route, Timer timer, long errors, double durationSeconds) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                percentiles.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+            }
+            return new RouteResult(
+                    route,
+                    snapshot.count(),
+                    errors,
+                    snapshot.count() / durationSeconds,
+                    snapshot.mean(TimeUnit.MILLISECONDS),
+                    snapshot.max(TimeUnit.MILLISECONDS),
+                    percentiles
+            );
+        }
+    }
+}
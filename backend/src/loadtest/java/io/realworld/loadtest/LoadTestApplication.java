@@ -0,0 +1,44 @@
+package io.realworld.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.realworld.RealworldBackendApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * 부하 테스트 진입점
+ * loadtest 프로필로 애플리케이션을 임의 포트에 띄우고 합성 데이터셋을 생성한 뒤 워크로드를 실행한다
+ */
+@Slf4j
+public final class LoadTestApplication {
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RealworldBackendApplication.class)
+                .profiles("loadtest")
+                .run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestProperties properties = context.getBean(LoadTestProperties.class);
+
+            Dataset dataset = context.getBean(DatasetGenerator.class).generate();
+            LoadReport report = context.getBean(LoadDriver.class).run("http://localhost:" + port, dataset);
+
+            log.info("Load test results:\n{}", report.toTable());
+
+            File reportFile = new File(properties.getReportFile());
+            reportFile.getParentFile().mkdirs();
+            context.getBean(ObjectMapper.class).copy()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(reportFile, report);
+            log.info("Report written to {}", reportFile.getAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.realworld.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (loadtest.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "loadtest")
+@Getter
+@Setter
+public class LoadTestProperties {
+
+    /** 난수 시드 (같은 시드면 같은 데이터셋과 요청 순서) */
+    private long seed = 42;
+
+    private int users = 500;
+    private int tags = 100;
+    private int articles = 5000;
+    private int followsPerUser = 20;
+    private int favorites = 20000;
+    private int comments = 10000;
+
+    private double followExponent = 1.2;
+    private double tagExponent = 1.1;
+    private double articleExponent = 1.0;
+
+    private int concurrency = 16;
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+    private String reportFile = "build/reports/loadtest/results.json";
+
+    /** 작업별 가중치 */
+    private Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+}
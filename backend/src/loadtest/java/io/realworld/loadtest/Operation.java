@@ -0,0 +1,36 @@
+package io.realworld.loadtest;
+
+/**
+ * 부하 테스트 워크로드 작업
+ * route는 결과 집계 단위 (HTTP 메서드 + 경로 템플릿)
+ */
+public enum Operation {
+
+    LIST_ARTICLES("GET /api/articles", false),
+    LIST_ARTICLES_BY_TAG("GET /api/articles?tag={tag}", false),
+    FEED("GET /api/articles/feed", false),
+    GET_ARTICLE("GET /api/articles/{slug}", false),
+    LIST_COMMENTS("GET /api/articles/{slug}/comments", false),
+    GET_PROFILE("GET /api/profiles/{username}", false),
+    FAVORITE("POST|DELETE /api/articles/{slug}/favorite", true),
+    ADD_COMMENT("POST /api/articles/{slug}/comments", true),
+    CREATE_ARTICLE("POST /api/articles", true),
+    FOLLOW("POST|DELETE /api/profiles/{username}/follow", true),
+    LOGIN("POST /api/users/login", false);
+
+    private final String route;
+    private final boolean write;
+
+    Operation(String route, boolean write) {
+        this.route = route;
+        this.write = write;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public boolean isWrite() {
+        return write;
+    }
+}
@@ -0,0 +1,42 @@
+package io.realworld.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * 가중치 기반 작업 선택
+ */
+public class WorkloadMix {
+
+    private final List<Operation> operations = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+    private final int totalWeight;
+
+    public WorkloadMix(Map<Operation, Integer> weights) {
+        int total = 0;
+        for (Operation operation : Operation.values()) {
+            int weight = weights.getOrDefault(operation, 0);
+            if (weight > 0) {
+                total += weight;
+                operations.add(operation);
+                cumulativeWeights.add(total);
+            }
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("loadtest.mix에 가중치가 0보다 큰 작업이 하나 이상 필요합니다");
+        }
+        this.totalWeight = total;
+    }
+
+    public Operation next(RandomGenerator random) {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < operations.size(); i++) {
+            if (value < cumulativeWeights.get(i)) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+}
@@ -0,0 +1,37 @@
+package io.realworld.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf 분포 샘플러
+ * 순위 0이 가장 자주 선택되며, 순위 k의 확률은 1 / (k + 1)^exponent에 비례한다
+ */
+public class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다");
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    /**
+     * 0 이상 size 미만의 순위를 샘플링
+     */
+    public int next(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -1,19 +1,33 @@
 package io.realworld.api;
 
 import io.realworld.api.dto.ArticleCreateRequest;
+import io.realworld.api.dto.ArticleImportResponse;
 import io.realworld.api.dto.ArticleListResponse;
 import io.realworld.api.dto.ArticleResponse;
 import io.realworld.api.dto.ArticleUpdateRequest;
 import io.realworld.domain.Article;
+import io.realworld.domain.ArticleImportResult;
+import io.realworld.domain.ArticleImportService;
+import io.realworld.domain.ArticleResponseAssembler;
+import io.realworld.domain.ArticleSearchHit;
 import io.realworld.domain.ArticleService;
-import io.realworld.domain.FollowRepository;
+import io.realworld.domain.ArticleSnapshot;
+import io.realworld.domain.EventStreamBroker;
+import io.realworld.domain.FeedService;
+import io.realworld.domain.OffsetPageRequest;
+import io.realworld.domain.SeekCursor;
+import io.realworld.domain.ToggleWriteBehind;
 import io.realworld.domain.User;
-import io.realworld.domain.UserRepository;
+import io.realworld.domain.UserService;
+import io.realworld.security.AuthenticatedUser;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -23,7 +37,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -35,68 +53,102 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ArticleController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String LIMIT_MIN_MESSAGE = "limit은 1 이상이어야 합니다";
+    private static final String LIMIT_MAX_MESSAGE = "limit은 " + MAX_PAGE_SIZE + " 이하이어야 합니다";
+    private static final String OFFSET_MIN_MESSAGE = "offset은 0 이상이어야 합니다";
+
     private final ArticleService articleService;
-    private final UserRepository userRepository;
-    private final FollowRepository followRepository;
+    private final ArticleResponseAssembler articleResponseAssembler;
+    private final ArticleImportService articleImportService;
+    private final FeedService feedService;
+    private final ToggleWriteBehind toggleWriteBehind;
+    private final EventStreamBroker eventStreamBroker;
+    private final UserService userService;
 
     /**
      * 아티클 목록 조회
+     * withCount=false이면 전체 개수 조회 쿼리를 생략하고 응답에서 articlesCount를 뺀다
+     * cursor 파라미터가 있으면 (빈 값이면 첫 페이지) offset 대신 keyset 페이지네이션을 사용하고
+     * articlesCount 대신 nextCursor를 반환
+     * q 파라미터가 있으면 제목/설명/본문 전문 검색 결과를 관련도순으로 반환하고 (cursor는 무시),
+     * 각 아티클에 검색어가 강조된 snippet을 포함
      */
     @GetMapping
     public ResponseEntity<ArticleListResponse> getArticles(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String tag,
             @RequestParam(required = false) String author,
             @RequestParam(required = false) String favorited,
-            @RequestParam(defaultValue = "20") int limit,
-            @RequestParam(defaultValue = "0") int offset,
-            @AuthenticationPrincipal UserDetails userDetails
+            @RequestParam(defaultValue = "20") @Min(value = 1, message = LIMIT_MIN_MESSAGE)
+            @Max(value = MAX_PAGE_SIZE, message = LIMIT_MAX_MESSAGE) int limit,
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = OFFSET_MIN_MESSAGE) int offset,
+            @RequestParam(defaultValue = "true") boolean withCount,
+            @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User currentUser = getCurrentUser(userDetails);
-        List<Article> articles;
-
-        // 필터링
-        if (tag != null) {
-            articles = articleService.findByTag(tag);
-        } else if (author != null) {
-            articles = articleService.findByAuthor(author);
-        } else if (favorited != null) {
-            articles = articleService.findByFavoritedUser(favorited);
-        } else {
-            articles = articleService.findAllArticles();
+        User currentUser = getViewer(principal);
+
+        if (q != null) {
+            return ResponseEntity.ok(searchArticles(q, tag, author, favorited, limit, offset, withCount, currentUser));
         }
 
-        // 페이지네이션 적용
-        List<ArticleResponse> articleResponses = articles.stream()
-                .skip(offset)
-                .limit(limit)
-                .map(article -> toArticleResponse(article, currentUser))
-                .toList();
+        if (cursor != null) {
+            Slice<Article> articles = articleService.findArticles(tag, author, favorited, decodeCursor(cursor), limit);
+            return ResponseEntity.ok(toCursorListResponse(articles, currentUser));
+        }
 
-        return ResponseEntity.ok(ArticleListResponse.of(articleResponses));
+        // 필터링 및 페이지네이션 (DB에서 LIMIT/OFFSET 적용)
+        Slice<Article> articles = articleService.findArticles(
+                tag, author, favorited, OffsetPageRequest.of(offset, limit));
+        List<ArticleResponse> articleResponses = toArticleResponses(articles, currentUser);
+
+        if (!withCount) {
+            return ResponseEntity.ok(ArticleListResponse.withoutCount(articleResponses));
+        }
+        long articlesCount = articleService.countArticles(tag, author, favorited);
+        return ResponseEntity.ok(ArticleListResponse.of(articleResponses, articlesCount));
     }
 
     /**
      * 팔로우한 사용자들의 아티클 피드 조회
+     * cursor 파라미터 처리는 아티클 목록 조회와 동일
      */
     @GetMapping("/feed")
     public ResponseEntity<ArticleListResponse> getFeed(
-            @RequestParam(defaultValue = "20") int limit,
-            @RequestParam(defaultValue = "0") int offset,
-            @AuthenticationPrincipal UserDetails userDetails
+            @RequestParam(defaultValue = "20") @Min(value = 1, message = LIMIT_MIN_MESSAGE)
+            @Max(value = MAX_PAGE_SIZE, message = LIMIT_MAX_MESSAGE) int limit,
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = OFFSET_MIN_MESSAGE) int offset,
+            @RequestParam(defaultValue = "true") boolean withCount,
+            @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User currentUser = getCurrentUserRequired(userDetails);
+        User currentUser = getViewerRequired(principal);
 
-        // 팔로우한 사용자들의 아티클 조회
-        List<Article> articles = articleService.findByFollowedUsers(currentUser);
+        if (cursor != null) {
+            Slice<Article> articles = feedService.findFeed(currentUser, decodeCursor(cursor), limit);
+            return ResponseEntity.ok(toCursorListResponse(articles, currentUser));
+        }
 
-        // 페이지네이션 적용
-        List<ArticleResponse> articleResponses = articles.stream()
-                .skip(offset)
-                .limit(limit)
-                .map(article -> toArticleResponse(article, currentUser))
-                .toList();
+        // 팔로우한 사용자들의 아티클 조회 (DB에서 LIMIT/OFFSET 적용)
+        Slice<Article> articles = feedService.findFeed(currentUser, OffsetPageRequest.of(offset, limit));
+        List<ArticleResponse> articleResponses = toArticleResponses(articles, currentUser);
 
-        return ResponseEntity.ok(ArticleListResponse.of(articleResponses));
+        if (!withCount) {
+            return ResponseEntity.ok(ArticleListResponse.withoutCount(articleResponses));
+        }
+        long articlesCount = feedService.countFeed(currentUser);
+        return ResponseEntity.ok(ArticleListResponse.of(articleResponses, articlesCount));
+    }
+
+    /**
+     * 피드 이벤트 스트림 구독 (SSE)
+     * 팔로우한 사용자가 새 아티클을 작성하면 article-created 이벤트를 보낸다
+     * 연결이 끊기면 피드 조회로 놓친 아티클을 확인한 뒤 다시 구독한다
+     */
+    @GetMapping(value = "/feed/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFeed(@AuthenticationPrincipal AuthenticatedUser principal) {
+        return eventStreamBroker.subscribeFeed(getViewerRequired(principal));
     }
 
     /**
@@ -105,11 +157,11 @@ public class ArticleController {
     @GetMapping("/{slug}")
     public ResponseEntity<ArticleResponse> getArticle(
             @PathVariable String slug,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User currentUser = getCurrentUser(userDetails);
-        Article article = articleService.findBySlug(slug);
-        ArticleResponse response = toArticleResponse(article, currentUser);
+        User currentUser = getViewer(principal);
+        ArticleSnapshot article = articleService.findSnapshotBySlug(slug);
+        ArticleResponse response = articleResponseAssembler.toResponse(article, currentUser);
         return ResponseEntity.ok(response);
     }
 
@@ -119,10 +171,10 @@ public class ArticleController {
     @PostMapping
     public ResponseEntity<ArticleResponse> createArticle(
             @Valid @RequestBody Map<String, Object> request,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
         ArticleCreateRequest createRequest = extractArticleCreateRequest(request);
-        User currentUser = getCurrentUserRequired(userDetails);
+        User currentUser = getCurrentUserRequired(principal);
 
         Article article = articleService.createArticle(
                 createRequest.getTitle(),
@@ -136,6 +188,20 @@ public class ArticleController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 아티클 일괄 등록 (NDJSON, 한 줄에 아티클 객체 하나)
+     * 요청 본문을 줄 단위로 읽어 청크마다 커밋하며, 실패한 줄은 줄 번호와 사유를 응답에 담는다
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ArticleImportResponse> importArticles(
+            InputStream body,
+            @AuthenticationPrincipal AuthenticatedUser principal
+    ) throws IOException {
+        User currentUser = getCurrentUserRequired(principal);
+        ArticleImportResult result = articleImportService.importArticles(body, currentUser);
+        return ResponseEntity.ok(ArticleImportResponse.of(result));
+    }
+
     /**
      * 아티클 수정
      */
@@ -143,10 +209,10 @@ public class ArticleController {
     public ResponseEntity<ArticleResponse> updateArticle(
             @PathVariable String slug,
             @Valid @RequestBody Map<String, Object> request,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
         ArticleUpdateRequest updateRequest = extractArticleUpdateRequest(request);
-        User currentUser = getCurrentUserRequired(userDetails);
+        User currentUser = getCurrentUserRequired(principal);
 
         Article article = articleService.updateArticle(
                 slug,
@@ -166,9 +232,9 @@ public class ArticleController {
     @DeleteMapping("/{slug}")
     public ResponseEntity<Void> deleteArticle(
             @PathVariable String slug,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User currentUser = getCurrentUserRequired(userDetails);
+        User currentUser = getCurrentUserRequired(principal);
         articleService.deleteArticle(slug, currentUser);
         return ResponseEntity.noContent().build();
     }
@@ -179,10 +245,12 @@ public class ArticleController {
     @PostMapping("/{slug}/favorite")
     public ResponseEntity<ArticleResponse> favoriteArticle(
             @PathVariable String slug,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User currentUser = getCurrentUserRequired(userDetails);
-        Article article = articleService.favoriteArticle(slug, currentUser);
+        User currentUser = getCurrentUserRequired(principal);
+        Article article = toggleWriteBehind.isEnabled()
+                ? articleService.favoriteArticleDeferred(slug, currentUser)
+                : articleService.favoriteArticle(slug, currentUser);
         ArticleResponse response = toArticleResponse(article, currentUser);
         return ResponseEntity.ok(response);
     }
@@ -193,51 +261,96 @@ public class ArticleController {
     @DeleteMapping("/{slug}/favorite")
     public ResponseEntity<ArticleResponse> unfavoriteArticle(
             @PathVariable String slug,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User currentUser = getCurrentUserRequired(userDetails);
-        Article article = articleService.unfavoriteArticle(slug, currentUser);
+        User currentUser = getCurrentUserRequired(principal);
+        Article article = toggleWriteBehind.isEnabled()
+                ? articleService.unfavoriteArticleDeferred(slug, currentUser)
+                : articleService.unfavoriteArticle(slug, currentUser);
         ArticleResponse response = toArticleResponse(article, currentUser);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Article을 ArticleResponse로 변환
+     * 전문 검색 목록 응답 생성 (관련도 순서를 유지하며 snippet 포함)
      */
-    private ArticleResponse toArticleResponse(Article article, User currentUser) {
-        boolean favorited = articleService.isFavorited(article, currentUser);
-        int favoritesCount = articleService.getFavoritesCount(article);
-        boolean following = isFollowing(article.getAuthor(), currentUser);
+    private ArticleListResponse searchArticles(String q, String tag, String author, String favorited,
+                                               int limit, int offset, boolean withCount, User currentUser) {
+        List<ArticleSearchHit> hits = articleService.searchArticles(
+                q, tag, author, favorited, OffsetPageRequest.of(offset, limit));
+        List<ArticleResponse> responses = articleResponseAssembler.toResponses(
+                hits.stream().map(ArticleSearchHit::getArticle).toList(), currentUser);
+        List<ArticleResponse> articleResponses = new ArrayList<>(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            articleResponses.add(responses.get(i).withSnippet(hits.get(i).getSnippet()));
+        }
 
-        return ArticleResponse.of(article, favorited, favoritesCount, following);
+        if (!withCount) {
+            return ArticleListResponse.withoutCount(articleResponses);
+        }
+        return ArticleListResponse.of(articleResponses, articleService.countSearchResults(q, tag, author, favorited));
     }
 
     /**
-     * 팔로우 여부 확인
+     * 아티클 페이지를 ArticleResponse 목록으로 변환 (좋아요/팔로우 정보 일괄 조회)
      */
-    private boolean isFollowing(User target, User currentUser) {
-        if (currentUser == null) {
-            return false;
+    private List<ArticleResponse> toArticleResponses(Slice<Article> articles, User currentUser) {
+        return articleResponseAssembler.toResponses(articles.getContent(), currentUser);
+    }
+
+    /**
+     * 커서 모드 목록 응답 생성 (다음 페이지가 있으면 마지막 아티클 위치를 nextCursor로 반환)
+     */
+    private ArticleListResponse toCursorListResponse(Slice<Article> articles, User currentUser) {
+        List<ArticleResponse> articleResponses = toArticleResponses(articles, currentUser);
+        if (!articles.hasNext()) {
+            return ArticleListResponse.of(articleResponses, (String) null);
         }
-        return followRepository.existsByFollowerAndFollowing(currentUser, target);
+        List<Article> content = articles.getContent();
+        Article last = content.get(content.size() - 1);
+        String nextCursor = SeekCursor.of(last.getCreatedAt(), last.getId()).encode();
+        return ArticleListResponse.of(articleResponses, nextCursor);
+    }
+
+    /**
+     * 커서 파라미터 디코딩 (빈 값이면 첫 페이지)
+     */
+    private SeekCursor decodeCursor(String cursor) {
+        return cursor.isBlank() ? null : SeekCursor.decode(cursor);
     }
 
     /**
-     * 현재 사용자 조회 (Optional)
+     * Article을 ArticleResponse로 변환
      */
-    private User getCurrentUser(UserDetails userDetails) {
-        if (userDetails == null) {
-            return null;
+    private ArticleResponse toArticleResponse(Article article, User currentUser) {
+        return articleResponseAssembler.toResponse(article, currentUser);
+    }
+
+    /**
+     * 읽기 경로의 현재 사용자 (Optional, id만 가진 참조라 사용자를 조회하지 않는다)
+     */
+    private User getViewer(AuthenticatedUser principal) {
+        return principal != null ? userService.getUserReference(principal.getId()) : null;
+    }
+
+    /**
+     * 읽기 경로의 현재 사용자 (Required, id만 가진 참조라 사용자를 조회하지 않는다)
+     */
+    private User getViewerRequired(AuthenticatedUser principal) {
+        if (principal == null) {
+            throw new IllegalStateException("인증된 사용자를 찾을 수 없습니다");
         }
-        return userRepository.findByUsername(userDetails.getUsername()).orElse(null);
+        return userService.getUserReference(principal.getId());
     }
 
     /**
-     * 현재 사용자 조회 (Required)
+     * 현재 사용자 조회 (Required, 쓰기 경로에서 사용자 엔티티를 로드)
      */
-    private User getCurrentUserRequired(UserDetails userDetails) {
-        return userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new IllegalStateException("인증된 사용자를 찾을 수 없습니다"));
+    private User getCurrentUserRequired(AuthenticatedUser principal) {
+        if (principal == null) {
+            throw new IllegalStateException("인증된 사용자를 찾을 수 없습니다");
+        }
+        return userService.getUser(principal.getId());
     }
 
     /**
@@ -4,22 +4,30 @@ import io.realworld.api.dto.CommentCreateRequest;
 import io.realworld.api.dto.CommentListResponse;
 import io.realworld.api.dto.CommentResponse;
 import io.realworld.domain.Comment;
+import io.realworld.domain.CommentResponseAssembler;
 import io.realworld.domain.CommentService;
-import io.realworld.domain.FollowRepository;
+import io.realworld.domain.EventStreamBroker;
+import io.realworld.domain.SeekCursor;
 import io.realworld.domain.User;
-import io.realworld.domain.UserRepository;
+import io.realworld.domain.UserService;
+import io.realworld.security.AuthenticatedUser;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -32,28 +40,68 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class CommentController {
 
+    /**
+     * cursor만 지정했을 때의 페이지 크기
+     */
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String LIMIT_MIN_MESSAGE = "limit은 1 이상이어야 합니다";
+    private static final String LIMIT_MAX_MESSAGE = "limit은 " + MAX_PAGE_SIZE + " 이하이어야 합니다";
+
     private final CommentService commentService;
-    private final UserRepository userRepository;
-    private final FollowRepository followRepository;
+    private final CommentResponseAssembler commentResponseAssembler;
+    private final EventStreamBroker eventStreamBroker;
+    private final UserService userService;
 
     /**
      * 댓글 목록 조회
+     * limit 또는 cursor 파라미터가 있으면 (빈 cursor는 첫 페이지) 최신순 keyset 페이지를 반환하고
+     * 다음 페이지가 있으면 nextCursor를 포함, 없으면 전체 댓글을 반환
+     * commentsCount는 slug로 찾은 아티클 ID로 댓글 수 컬럼을 읽는다
      */
     @GetMapping("/{slug}/comments")
     public ResponseEntity<CommentListResponse> getComments(
             @PathVariable String slug,
-            @AuthenticationPrincipal UserDetails userDetails
+            @RequestParam(required = false) @Min(value = 1, message = LIMIT_MIN_MESSAGE)
+            @Max(value = MAX_PAGE_SIZE, message = LIMIT_MAX_MESSAGE) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User currentUser = getCurrentUser(userDetails);
-        List<Comment> comments = commentService.getCommentsByArticle(slug);
-
-        List<CommentResponse> commentResponses = comments.stream()
-                .map(comment -> toCommentResponse(comment, currentUser))
-                .toList();
+        User currentUser = getViewer(principal);
+
+        if (limit != null || cursor != null) {
+            Long articleId = commentService.findArticleId(slug);
+            Slice<Comment> comments = commentService.getCommentsByArticle(
+                    articleId, decodeCursor(cursor), limit != null ? limit : DEFAULT_PAGE_SIZE);
+            List<CommentResponse> commentResponses =
+                    commentResponseAssembler.toResponses(comments.getContent(), currentUser);
+            String nextCursor = null;
+            if (comments.hasNext()) {
+                Comment last = comments.getContent().get(comments.getNumberOfElements() - 1);
+                nextCursor = SeekCursor.of(last.getCreatedAt(), last.getId()).encode();
+            }
+            int commentsCount = commentService.countCommentsByArticle(articleId);
+            return ResponseEntity.ok(CommentListResponse.of(commentResponses, commentsCount, nextCursor));
+        }
 
+        List<Comment> comments = commentService.getCommentsByArticle(slug);
+        List<CommentResponse> commentResponses = commentResponseAssembler.toResponses(comments, currentUser);
         return ResponseEntity.ok(CommentListResponse.of(commentResponses));
     }
 
+    /**
+     * 댓글 이벤트 스트림 구독 (SSE)
+     * 커밋된 댓글 작성/삭제를 comment-created(댓글), comment-deleted({"id"}) 이벤트로 보낸다
+     * 연결이 끊기면 댓글 목록 조회로 놓친 댓글을 확인한 뒤 다시 구독한다
+     */
+    @GetMapping(value = "/{slug}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(
+            @PathVariable String slug,
+            @AuthenticationPrincipal AuthenticatedUser principal
+    ) {
+        return eventStreamBroker.subscribeArticle(commentService.findArticleId(slug), getViewer(principal));
+    }
+
     /**
      * 댓글 작성
      */
@@ -61,13 +109,13 @@ public class CommentController {
     public ResponseEntity<CommentResponse> createComment(
             @PathVariable String slug,
             @Valid @RequestBody Map<String, Object> request,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
         CommentCreateRequest createRequest = extractCommentCreateRequest(request);
-        User currentUser = getCurrentUserRequired(userDetails);
+        User currentUser = getCurrentUserRequired(principal);
 
         Comment comment = commentService.createComment(slug, createRequest.getBody(), currentUser);
-        CommentResponse response = toCommentResponse(comment, currentUser);
+        CommentResponse response = commentResponseAssembler.toResponse(comment, currentUser);
 
         return ResponseEntity.ok(response);
     }
@@ -79,47 +127,35 @@ public class CommentController {
     public ResponseEntity<Void> deleteComment(
             @PathVariable String slug,
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User currentUser = getCurrentUserRequired(userDetails);
+        User currentUser = getCurrentUserRequired(principal);
         commentService.deleteComment(slug, id, currentUser);
         return ResponseEntity.noContent().build();
     }
 
     /**
-     * Comment를 CommentResponse로 변환
+     * 커서 파라미터 디코딩 (빈 값이면 첫 페이지)
      */
-    private CommentResponse toCommentResponse(Comment comment, User currentUser) {
-        boolean following = isFollowing(comment.getAuthor(), currentUser);
-        return CommentResponse.of(comment, following);
+    private SeekCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : SeekCursor.decode(cursor);
     }
 
     /**
-     * 팔로우 여부 확인
+     * 읽기 경로의 현재 사용자 (Optional, id만 가진 참조라 사용자를 조회하지 않는다)
      */
-    private boolean isFollowing(User target, User currentUser) {
-        if (currentUser == null) {
-            return false;
-        }
-        return followRepository.existsByFollowerAndFollowing(currentUser, target);
+    private User getViewer(AuthenticatedUser principal) {
+        return principal != null ? userService.getUserReference(principal.getId()) : null;
     }
 
     /**
-     * 현재 사용자 조회 (Optional)
+     * 현재 사용자 조회 (Required, 쓰기 경로에서 사용자 엔티티를 로드)
      */
-    private User getCurrentUser(UserDetails userDetails) {
-        if (userDetails == null) {
-            return null;
+    private User getCurrentUserRequired(AuthenticatedUser principal) {
+        if (principal == null) {
+            throw new IllegalStateException("인증된 사용자를 찾을 수 없습니다");
         }
-        return userRepository.findByUsername(userDetails.getUsername()).orElse(null);
-    }
-
-    /**
-     * 현재 사용자 조회 (Required)
-     */
-    private User getCurrentUserRequired(UserDetails userDetails) {
-        return userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new IllegalStateException("인증된 사용자를 찾을 수 없습니다"));
+        return userService.getUser(principal.getId());
     }
 
     /**
@@ -0,0 +1,68 @@
+package io.realworld.api;
+
+import io.realworld.api.exception.ResourceNotFoundException;
+import io.realworld.domain.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 데이터 내보내기 컨트롤러
+ * 백업/분석용 전체 데이터를 NDJSON으로 스트리밍하며, export.enabled가 true일 때만 사용할 수 있다
+ * 접근은 SecurityConfig에서 내보내기 토큰(X-Export-Token)으로 제한한다
+ */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final String GZIP = "gzip";
+
+    private final ExportService exportService;
+
+    @Value("${export.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 전체 데이터 내보내기
+     * Accept-Encoding에 gzip이 있으면 응답을 압축하면서 바로 전송한다
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        if (!enabled) {
+            throw new ResourceNotFoundException("Export is disabled");
+        }
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains(GZIP);
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"realworld-export.ndjson\"");
+        // 같은 URL이라도 Accept-Encoding에 따라 본문이 달라지므로 캐시가 구분하도록 알린다
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        OutputStream output = response.getOutputStream();
+        if (gzip) {
+            try (GZIPOutputStream compressed = new GZIPOutputStream(output, 64 * 1024)) {
+                exportService.export(compressed);
+            }
+        } else {
+            exportService.export(output);
+        }
+    }
+}
@@ -3,12 +3,13 @@ package io.realworld.api;
 import io.realworld.api.dto.ProfileResponse;
 import io.realworld.api.dto.ProfileResponseWrapper;
 import io.realworld.domain.ProfileService;
+import io.realworld.domain.ToggleWriteBehind;
 import io.realworld.domain.User;
-import io.realworld.domain.UserRepository;
+import io.realworld.domain.UserService;
+import io.realworld.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,7 +26,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProfileController {
 
     private final ProfileService profileService;
-    private final UserRepository userRepository;
+    private final ToggleWriteBehind toggleWriteBehind;
+    private final UserService userService;
 
     /**
      * 프로필 조회
@@ -33,9 +35,9 @@ public class ProfileController {
     @GetMapping("/{username}")
     public ResponseEntity<ProfileResponseWrapper> getProfile(
             @PathVariable String username,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User currentUser = getCurrentUser(userDetails);
+        User currentUser = getViewer(principal);
         User profile = profileService.findByUsername(username);
         boolean following = profileService.isFollowing(currentUser, profile);
         return ResponseEntity.ok(ProfileResponseWrapper.of(ProfileResponse.of(profile, following)));
@@ -47,10 +49,12 @@ public class ProfileController {
     @PostMapping("/{username}/follow")
     public ResponseEntity<ProfileResponseWrapper> followUser(
             @PathVariable String username,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User currentUser = getCurrentUserRequired(userDetails);
-        User profile = profileService.followUser(currentUser, username);
+        User currentUser = getCurrentUserRequired(principal);
+        User profile = toggleWriteBehind.isEnabled()
+                ? profileService.followUserDeferred(currentUser, username)
+                : profileService.followUser(currentUser, username);
         return ResponseEntity.ok(ProfileResponseWrapper.of(ProfileResponse.of(profile, true)));
     }
 
@@ -60,28 +64,29 @@ public class ProfileController {
     @DeleteMapping("/{username}/follow")
     public ResponseEntity<ProfileResponseWrapper> unfollowUser(
             @PathVariable String username,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User currentUser = getCurrentUserRequired(userDetails);
-        User profile = profileService.unfollowUser(currentUser, username);
+        User currentUser = getCurrentUserRequired(principal);
+        User profile = toggleWriteBehind.isEnabled()
+                ? profileService.unfollowUserDeferred(currentUser, username)
+                : profileService.unfollowUser(currentUser, username);
         return ResponseEntity.ok(ProfileResponseWrapper.of(ProfileResponse.of(profile, false)));
     }
 
     /**
-     * 현재 사용자 조회 (Optional)
+     * 읽기 경로의 현재 사용자 (Optional, id만 가진 참조라 사용자를 조회하지 않는다)
      */
-    private User getCurrentUser(UserDetails userDetails) {
-        if (userDetails == null) {
-            return null;
-        }
-        return userRepository.findByUsername(userDetails.getUsername()).orElse(null);
+    private User getViewer(AuthenticatedUser principal) {
+        return principal != null ? userService.getUserReference(principal.getId()) : null;
     }
 
     /**
-     * 현재 사용자 조회 (Required)
+     * 현재 사용자 조회 (Required, 쓰기 경로에서 사용자 엔티티를 로드)
      */
-    private User getCurrentUserRequired(UserDetails userDetails) {
-        return userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new IllegalStateException("인증된 사용자를 찾을 수 없습니다"));
+    private User getCurrentUserRequired(AuthenticatedUser principal) {
+        if (principal == null) {
+            throw new IllegalStateException("인증된 사용자를 찾을 수 없습니다");
+        }
+        return userService.getUser(principal.getId());
     }
 }
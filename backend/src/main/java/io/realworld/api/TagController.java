@@ -1,14 +1,16 @@
 package io.realworld.api;
 
 import io.realworld.api.dto.TagResponse;
+import io.realworld.domain.PopularTags;
 import io.realworld.domain.TagService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 태그 컨트롤러
@@ -21,11 +23,18 @@ public class TagController {
     private final TagService tagService;
 
     /**
-     * 태그 목록 조회
+     * 태그 목록 조회 (사용 횟수 상위 K개)
+     * 목록이 바뀌지 않았으면 If-None-Match에 대해 본문 없이 304를 반환
      */
     @GetMapping
-    public ResponseEntity<TagResponse> getTags() {
-        List<String> tags = tagService.findAllTags();
-        return ResponseEntity.ok(TagResponse.of(tags));
+    public ResponseEntity<TagResponse> getTags(WebRequest request) {
+        PopularTags popularTags = tagService.findPopularTags();
+        if (request.checkNotModified(popularTags.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(popularTags.getEtag())
+                .body(TagResponse.of(popularTags.getTags()));
     }
 }
@@ -7,6 +7,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.annotation.CurrentSecurityContext;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -31,9 +32,11 @@ public class UserController {
      */
     @GetMapping
     public ResponseEntity<UserResponse> getCurrentUser(
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentSecurityContext(expression = "authentication.credentials") Object credentials
     ) {
-        UserResponse response = userService.getCurrentUser(userDetails.getUsername());
+        String currentToken = credentials instanceof String token ? token : null;
+        UserResponse response = userService.getCurrentUser(userDetails.getUsername(), currentToken);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,23 @@
+package io.realworld.api.dto;
+
+import io.realworld.domain.ArticleImportResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 아티클 일괄 등록 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class ArticleImportResponse {
+
+    private long imported;
+    private long failed;
+    private List<ArticleImportResult.LineError> errors;
+
+    public static ArticleImportResponse of(ArticleImportResult result) {
+        return new ArticleImportResponse(result.getImported(), result.getFailed(), result.getErrors());
+    }
+}
@@ -1,5 +1,6 @@
 package io.realworld.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -13,9 +14,28 @@ import java.util.List;
 public class ArticleListResponse {
 
     private List<ArticleResponse> articles;
-    private int articlesCount;
 
-    public static ArticleListResponse of(List<ArticleResponse> articles) {
-        return new ArticleListResponse(articles, articles.size());
+    /**
+     * 조건에 맞는 전체 아티클 수 (withCount=false이거나 커서 모드처럼 개수를 세지 않은 응답에서는 생략)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer articlesCount;
+
+    /**
+     * 다음 페이지 커서 (커서 모드에서 다음 페이지가 있을 때만 포함)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public static ArticleListResponse withoutCount(List<ArticleResponse> articles) {
+        return new ArticleListResponse(articles, null, null);
+    }
+
+    public static ArticleListResponse of(List<ArticleResponse> articles, long articlesCount) {
+        return new ArticleListResponse(articles, Math.toIntExact(articlesCount), null);
+    }
+
+    public static ArticleListResponse of(List<ArticleResponse> articles, String nextCursor) {
+        return new ArticleListResponse(articles, null, nextCursor);
     }
 }
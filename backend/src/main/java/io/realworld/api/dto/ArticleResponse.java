@@ -1,7 +1,9 @@
 package io.realworld.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonRootName;
 import io.realworld.domain.Article;
+import io.realworld.domain.ArticleSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -27,7 +29,13 @@ public class ArticleResponse {
     private int favoritesCount;
     private AuthorResponse author;
 
-    public static ArticleResponse of(Article article, boolean favorited, int favoritesCount, boolean following) {
+    /**
+     * 검색어가 강조된 본문 발췌 (검색 결과에서만 포함)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String snippet;
+
+    public static ArticleResponse of(Article article, boolean favorited, boolean following) {
         return new ArticleResponse(
                 article.getSlug(),
                 article.getTitle(),
@@ -39,12 +47,53 @@ public class ArticleResponse {
                 article.getCreatedAt(),
                 article.getUpdatedAt(),
                 favorited,
-                favoritesCount,
-                AuthorResponse.of(article.getAuthor(), following)
+                article.getFavoritesCount(),
+                AuthorResponse.of(article.getAuthor(), following),
+                null
+        );
+    }
+
+    public static ArticleResponse of(ArticleSnapshot article, boolean favorited, boolean following) {
+        return new ArticleResponse(
+                article.getSlug(),
+                article.getTitle(),
+                article.getDescription(),
+                article.getBody(),
+                article.getTagList(),
+                article.getCreatedAt(),
+                article.getUpdatedAt(),
+                favorited,
+                article.getFavoritesCount(),
+                new AuthorResponse(
+                        article.getAuthorUsername(),
+                        article.getAuthorBio(),
+                        article.getAuthorImage(),
+                        following
+                ),
+                null
         );
     }
 
+    /**
+     * 좋아요 수를 보정한 응답 (DB 반영 전 좋아요 요청 반영용)
+     */
+    public ArticleResponse withFavoritesCountDelta(int delta) {
+        if (delta == 0) {
+            return this;
+        }
+        return new ArticleResponse(slug, title, description, body, tagList, createdAt, updatedAt,
+                favorited, Math.max(0, favoritesCount + delta), author, snippet);
+    }
+
+    /**
+     * 검색 결과 발췌를 포함한 응답
+     */
+    public ArticleResponse withSnippet(String snippet) {
+        return new ArticleResponse(slug, title, description, body, tagList, createdAt, updatedAt,
+                favorited, favoritesCount, author, snippet);
+    }
+
     public static ArticleResponse of(Article article) {
-        return of(article, false, 0, false);
+        return of(article, false, false);
     }
 }
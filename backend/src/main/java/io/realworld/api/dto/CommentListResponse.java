@@ -1,5 +1,6 @@
 package io.realworld.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -13,8 +14,19 @@ import java.util.List;
 public class CommentListResponse {
 
     private List<CommentResponse> comments;
+    private int commentsCount;
+
+    /**
+     * 다음 페이지 커서 (페이지 모드에서 다음 페이지가 있을 때만 포함)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 
     public static CommentListResponse of(List<CommentResponse> comments) {
-        return new CommentListResponse(comments);
+        return new CommentListResponse(comments, comments.size(), null);
+    }
+
+    public static CommentListResponse of(List<CommentResponse> comments, int commentsCount, String nextCursor) {
+        return new CommentListResponse(comments, commentsCount, nextCursor);
     }
 }
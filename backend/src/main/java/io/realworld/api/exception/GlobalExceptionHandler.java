@@ -3,10 +3,13 @@ package io.realworld.api.exception;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.util.DisconnectedClientHelper;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -48,6 +51,20 @@ public class GlobalExceptionHandler {
                 .body(createErrorResponse("resource", ex.getMessage()));
     }
 
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<Map<String, Object>> handleAccessDenied(AccessDeniedException ex) {
+        log.error("Access denied error: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(createErrorResponse("authorization", ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidCursor(InvalidCursorException ex) {
+        log.error("Invalid cursor error: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(createErrorResponse("cursor", ex.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationErrors(MethodArgumentNotValidException ex) {
         Map<String, List<String>> errors = new HashMap<>();
@@ -62,8 +79,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<Map<String, Object>> handleParameterValidationErrors(HandlerMethodValidationException ex) {
+        Map<String, List<String>> errors = new HashMap<>();
+        ex.getParameterValidationResults().forEach(result -> {
+            String parameterName = result.getMethodParameter().getParameterName();
+            result.getResolvableErrors().forEach(error -> errors
+                    .computeIfAbsent(parameterName, k -> new ArrayList<>()).add(error.getDefaultMessage()));
+        });
+        log.error("Parameter validation errors: {}", errors);
+        Map<String, Object> response = new HashMap<>();
+        response.put("errors", errors);
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
+        // 클라이언트가 연결을 끊은 경우 (SSE 구독 종료 등) 응답을 쓸 수 없으므로 기록만 한다
+        if (DisconnectedClientHelper.isClientDisconnectedException(ex)) {
+            log.debug("Client disconnected: {}", ex.getMessage());
+            return null;
+        }
         log.error("Unexpected error occurred", ex);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(createErrorResponse("server", "An unexpected error occurred"));
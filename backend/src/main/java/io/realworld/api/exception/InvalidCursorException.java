@@ -0,0 +1,10 @@
+package io.realworld.api.exception;
+
+/**
+ * 잘못된 페이지 커서 예외
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package io.realworld.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행 설정
+ * 피드 fan-out 등 커밋 이후 작업을 요청 스레드와 분리하여 실행
+ * spring.threads.virtual.enabled가 켜져 있고 Java 21 이상이면 요청 처리, @Async, @Scheduled 모두 가상 스레드에서 실행된다
+ */
+@Configuration
+@EnableAsync
+@Slf4j
+public class AsyncConfig {
+
+    AsyncConfig(Environment environment) {
+        // Java 21 미만에서는 Spring Boot가 가상 스레드 설정을 무시하고 플랫폼 스레드로 실행한다
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                && !Threading.VIRTUAL.isActive(environment)) {
+            log.warn("spring.threads.virtual.enabled is set but Java {} does not support virtual threads; "
+                    + "running on platform threads", Runtime.version().feature());
+        }
+    }
+}
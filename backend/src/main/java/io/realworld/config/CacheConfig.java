@@ -0,0 +1,34 @@
+package io.realworld.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 설정
+ * spring.cache.* 설정으로 Caffeine 캐시를 만들고, 캐시 무효화를 트랜잭션 커밋 이후로 미뤄
+ * 커밋 전 데이터가 다시 캐시되는 것을 방지
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        if (cacheProperties.getType() == CacheType.NONE) {
+            return new NoOpCacheManager();
+        }
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        cacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
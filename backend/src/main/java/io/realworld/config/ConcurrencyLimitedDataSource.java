@@ -0,0 +1,102 @@
+package io.realworld.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시에 열린 커넥션 수를 세마포어로 제한하는 데이터소스
+ * 가상 스레드 모드에서는 요청 스레드 수가 DB 동시성의 상한이 되지 않으므로 커넥션을 얻기 전에 허가를 받고,
+ * 커넥션을 닫을 때 반납한다. 허가를 기다리는 가상 스레드는 캐리어 스레드를 점유하지 않는다
+ */
+class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxActive;
+    private final long acquireTimeoutMillis;
+
+    ConcurrencyLimitedDataSource(DataSource targetDataSource, int maxActive, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxActive, true);
+        this.maxActive = maxActive;
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 사용 중인 허가 수
+     */
+    int getActive() {
+        return maxActive - permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "SQLite concurrency limit (" + maxActive + ") reached, timed out after "
+                                + acquireTimeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for SQLite concurrency permit", e);
+        }
+    }
+
+    /**
+     * close 시 허가를 한 번만 반납하는 커넥션 프록시
+     */
+    private Connection limited(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConcurrencyLimitedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,67 @@
+package io.realworld.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * SQLite 연결 설정
+ * sqlite.* 설정을 SQLite 데이터소스의 커넥션 속성으로 등록하여 커넥션을 열 때마다 PRAGMA가 적용되도록 하고,
+ * sqlite.concurrency.max-active가 있으면 실제 커넥션 풀마다 동시 커넥션 수를 세마포어로 제한한다.
+ * 풀을 분리한 경우 단일 커넥션 쓰기 풀에 허가 하나를 남겨두고 나머지를 읽기 풀에 주므로
+ * 오래 걸리는 읽기가 허가를 모두 차지해도 쓰기는 기다리지 않는다
+ */
+@Configuration
+@EnableConfigurationProperties(SqliteProperties.class)
+public class SqliteConfig {
+
+    static final String SQLITE_URL_PREFIX = "jdbc:sqlite:";
+
+    @Bean
+    public static BeanPostProcessor sqliteDataSourcePostProcessor(ObjectProvider<SqliteProperties> sqliteProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && isSqlite(dataSource.getJdbcUrl())) {
+                    Properties properties = sqliteProperties.getObject().toConnectionProperties();
+                    if (dataSource.isReadOnly()) {
+                        // 읽기 전용 커넥션은 저널 모드를 바꿀 수 없음 (WAL은 쓰기 커넥션이 DB 파일에 설정)
+                        properties.remove("journal_mode");
+                    }
+                    properties.forEach((key, value) -> dataSource.addDataSourceProperty((String) key, value));
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource dataSource) || !isSqlite(dataSource.getJdbcUrl())) {
+                    return bean;
+                }
+                SqliteProperties properties = sqliteProperties.getObject();
+                SqliteProperties.Concurrency concurrency = properties.getConcurrency();
+                int maxActive = concurrency.getMaxActive();
+                if (maxActive <= 0) {
+                    return bean;
+                }
+                if (properties.getPools().isSplit()) {
+                    if (!dataSource.isReadOnly()) {
+                        // 쓰기 풀은 커넥션 하나뿐이므로 허가 하나를 예약한 것과 같다
+                        return bean;
+                    }
+                    maxActive = Math.max(1, maxActive - 1);
+                }
+                return new ConcurrencyLimitedDataSource(dataSource, maxActive, concurrency.getAcquireTimeout());
+            }
+        };
+    }
+
+    static boolean isSqlite(String jdbcUrl) {
+        return jdbcUrl != null && jdbcUrl.startsWith(SQLITE_URL_PREFIX);
+    }
+}
@@ -0,0 +1,78 @@
+package io.realworld.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * SQLite 읽기/쓰기 커넥션 풀 분리 설정
+ * SQLite는 동시에 하나의 쓰기만 허용하므로 쓰기 트랜잭션은 단일 커넥션 풀에서 순서대로 대기시키고,
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 WAL 모드에서 병렬로 읽을 수 있도록 별도 풀로 보낸다
+ * 각 풀의 대기 시간은 hikaricp.connections.acquire 메트릭(pool 태그)으로 노출된다
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sqlite.pools", name = "split", havingValue = "true")
+public class SqliteDataSourceConfig {
+
+    static final String WRITER_POOL_NAME = "sqlite-writer";
+    static final String READER_POOL_NAME = "sqlite-reader";
+
+    /** SQLITE_OPEN_READONLY */
+    private static final String OPEN_MODE_READONLY = "1";
+
+    @Bean
+    public HikariDataSource sqliteWriterDataSource(
+            DataSourceProperties dataSourceProperties,
+            SqliteProperties sqliteProperties
+    ) {
+        HikariDataSource dataSource = createDataSource(dataSourceProperties);
+        dataSource.setPoolName(WRITER_POOL_NAME);
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setConnectionTimeout(sqliteProperties.getPools().getWriterWaitTimeout().toMillis());
+        // 트랜잭션 시작 시 쓰기 잠금을 획득하여 읽기 -> 쓰기 잠금 승격 실패(SQLITE_BUSY)를 방지
+        dataSource.addDataSourceProperty("transaction_mode", "IMMEDIATE");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource sqliteReaderDataSource(
+            DataSourceProperties dataSourceProperties,
+            SqliteProperties sqliteProperties
+    ) {
+        HikariDataSource dataSource = createDataSource(dataSourceProperties);
+        dataSource.setPoolName(READER_POOL_NAME);
+        dataSource.setMaximumPoolSize(sqliteProperties.getPools().getReaderSize());
+        dataSource.setConnectionTimeout(sqliteProperties.getPools().getReaderWaitTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        dataSource.addDataSourceProperty("open_mode", OPEN_MODE_READONLY);
+        return dataSource;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이면 읽기 풀, 그 외에는 쓰기 풀의 커넥션을 사용하는 데이터소스
+     * 커넥션은 첫 SQL 실행 시점에 가져오므로 트랜잭션의 읽기 전용 여부가 반영된다
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("sqliteWriterDataSource") DataSource writerDataSource,
+            @Qualifier("sqliteReaderDataSource") DataSource readerDataSource
+    ) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writerDataSource);
+        dataSource.setReadOnlyDataSource(readerDataSource);
+        return dataSource;
+    }
+
+    private HikariDataSource createDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package io.realworld.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실제 커넥션에 적용된 SQLite PRAGMA 값을 actuator info에 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class SqliteInfoContributor implements InfoContributor {
+
+    private static final List<String> PRAGMAS = List.of(
+            "journal_mode", "synchronous", "busy_timeout", "mmap_size", "cache_size", "temp_store", "foreign_keys");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void contribute(Info.Builder builder) {
+        Map<String, Object> pragmas = new LinkedHashMap<>();
+        for (String pragma : PRAGMAS) {
+            try {
+                pragmas.put(pragma, jdbcTemplate.queryForObject("PRAGMA " + pragma, Object.class));
+            } catch (DataAccessException e) {
+                pragmas.put(pragma, "unavailable");
+            }
+        }
+        builder.withDetail("sqlite", pragmas);
+    }
+}
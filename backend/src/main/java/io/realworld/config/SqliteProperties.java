@@ -0,0 +1,111 @@
+package io.realworld.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * SQLite 연결 튜닝 설정 (sqlite.*)
+ * 커넥션을 열 때 PRAGMA로 적용된다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sqlite")
+public class SqliteProperties {
+
+    /** 저널 모드 (WAL이면 쓰기 중에도 읽기가 막히지 않음) */
+    private JournalMode journalMode = JournalMode.WAL;
+
+    /** 동기화 수준 (WAL에서는 NORMAL로도 커밋 내구성이 보장됨, 전원 장애 시 마지막 커밋만 유실 가능) */
+    private Synchronous synchronous = Synchronous.NORMAL;
+
+    /** 잠금 대기 시간 (초과 시 SQLITE_BUSY) */
+    private Duration busyTimeout = Duration.ofSeconds(5);
+
+    /** 메모리 맵 I/O 크기 (0이면 비활성화) */
+    private DataSize mmapSize = DataSize.ofMegabytes(256);
+
+    /** 커넥션별 페이지 캐시 크기 */
+    private DataSize cacheSize = DataSize.ofMegabytes(64);
+
+    /** 임시 테이블/인덱스 저장 위치 */
+    private TempStore tempStore = TempStore.MEMORY;
+
+    /** 외래 키 제약 조건 (ON DELETE CASCADE 포함) 적용 여부 */
+    private boolean foreignKeys = true;
+
+    /** 읽기/쓰기 커넥션 풀 분리 설정 */
+    private final Pools pools = new Pools();
+
+    /** DB 동시 접근 제한 설정 */
+    private final Concurrency concurrency = new Concurrency();
+
+    /**
+     * sqlite-jdbc 드라이버 커넥션 속성으로 변환
+     */
+    public Properties toConnectionProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("journal_mode", journalMode.name());
+        properties.setProperty("synchronous", synchronous.name());
+        properties.setProperty("busy_timeout", String.valueOf(busyTimeout.toMillis()));
+        properties.setProperty("mmap_size", String.valueOf(mmapSize.toBytes()));
+        // 음수 값은 페이지 수가 아닌 KiB 단위
+        properties.setProperty("cache_size", String.valueOf(-cacheSize.toKilobytes()));
+        properties.setProperty("temp_store", tempStore.name());
+        properties.setProperty("foreign_keys", String.valueOf(foreignKeys));
+        return properties;
+    }
+
+    /**
+     * 읽기/쓰기 커넥션 풀 분리 설정 (sqlite.pools.*)
+     */
+    @Getter
+    @Setter
+    public static class Pools {
+
+        /** 풀 분리 여부 (인메모리 DB는 커넥션마다 별도 DB이므로 사용 불가) */
+        private boolean split = false;
+
+        /** 읽기 전용 풀 크기 */
+        private int readerSize = 4;
+
+        /** 읽기 커넥션 대기 시간 */
+        private Duration readerWaitTimeout = Duration.ofSeconds(5);
+
+        /** 쓰기 커넥션 대기 시간 (단일 커넥션을 기다리는 쓰기 트랜잭션 대기열의 상한) */
+        private Duration writerWaitTimeout = Duration.ofSeconds(10);
+    }
+
+    /**
+     * DB 동시 접근 제한 설정 (sqlite.concurrency.*)
+     */
+    @Getter
+    @Setter
+    public static class Concurrency {
+
+        /**
+         * 동시에 열 수 있는 커넥션 수 (0이면 제한하지 않고 커넥션 풀과 요청 스레드 수에 맡김)
+         * 풀을 분리하면 쓰기 커넥션 1개를 포함한 합계이며, 읽기 풀은 나머지(최소 1개)까지 연다
+         */
+        private int maxActive = 0;
+
+        /** 허가 대기 시간 (초과 시 SQLTransientConnectionException) */
+        private Duration acquireTimeout = Duration.ofSeconds(10);
+    }
+
+    public enum JournalMode {
+        DELETE, TRUNCATE, PERSIST, MEMORY, WAL, OFF
+    }
+
+    public enum Synchronous {
+        OFF, NORMAL, FULL, EXTRA
+    }
+
+    public enum TempStore {
+        DEFAULT, FILE, MEMORY
+    }
+}
@@ -4,8 +4,6 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
@@ -31,7 +29,7 @@ import java.util.List;
 public class Article extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableSequence(name = "articles")
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -50,6 +48,32 @@ public class Article extends BaseTimeEntity {
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
+    /**
+     * 좋아요 수 (비정규화 컬럼)
+     * ArticleRepository의 원자적 증감 쿼리로만 갱신되므로 엔티티 flush 대상에서 제외한다
+     */
+    @Column(
+        name = "favorites_count",
+        nullable = false,
+        insertable = false,
+        updatable = false,
+        columnDefinition = "INTEGER NOT NULL DEFAULT 0"
+    )
+    private int favoritesCount;
+
+    /**
+     * 댓글 수 (비정규화 컬럼)
+     * ArticleRepository의 원자적 증감 쿼리로만 갱신되므로 엔티티 flush 대상에서 제외한다
+     */
+    @Column(
+        name = "comments_count",
+        nullable = false,
+        insertable = false,
+        updatable = false,
+        columnDefinition = "INTEGER NOT NULL DEFAULT 0"
+    )
+    private int commentsCount;
+
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
         name = "article_tags",
@@ -80,6 +104,13 @@ public class Article extends BaseTimeEntity {
         this.slug = slug;
     }
 
+    /**
+     * DB에 반영된 좋아요 수 증감을 영속성 컨텍스트의 엔티티에도 반영
+     */
+    public void applyFavoritesCountDelta(int delta) {
+        this.favoritesCount = Math.max(0, this.favoritesCount + delta);
+    }
+
     public void addTag(Tag tag) {
         if (!this.tags.contains(tag)) {
             this.tags.add(tag);
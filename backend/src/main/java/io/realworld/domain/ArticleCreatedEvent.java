@@ -0,0 +1,15 @@
+package io.realworld.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아티클 생성 도메인 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class ArticleCreatedEvent {
+
+    private final Long articleId;
+    private final Long authorId;
+}
@@ -0,0 +1,14 @@
+package io.realworld.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아티클 삭제 도메인 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class ArticleDeletedEvent {
+
+    private final Long articleId;
+}
@@ -0,0 +1,28 @@
+package io.realworld.domain;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 등록할 아티클 내용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleDraft {
+
+    @NotBlank(message = "제목은 필수입니다")
+    private String title;
+
+    @NotBlank(message = "설명은 필수입니다")
+    private String description;
+
+    @NotBlank(message = "본문은 필수입니다")
+    private String body;
+
+    private List<String> tagList;
+}
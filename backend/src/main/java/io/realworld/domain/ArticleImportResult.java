@@ -0,0 +1,46 @@
+package io.realworld.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아티클 일괄 등록 결과
+ * 실패한 줄은 최대 maxReportedErrors개까지만 보관하고, 나머지는 개수만 센다
+ */
+@Getter
+public class ArticleImportResult {
+
+    private long imported;
+    private long failed;
+    private final List<LineError> errors = new ArrayList<>();
+    private final int maxReportedErrors;
+
+    public ArticleImportResult(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void succeed(int count) {
+        imported += count;
+    }
+
+    void fail(int line, String message) {
+        failed++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new LineError(line, message));
+        }
+    }
+
+    /**
+     * 실패한 줄 (1부터 시작하는 줄 번호)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class LineError {
+
+        private final int line;
+        private final String message;
+    }
+}
@@ -0,0 +1,127 @@
+package io.realworld.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 아티클 일괄 등록 서비스 (NDJSON)
+ * 입력을 줄 단위로 읽어 청크 크기만큼 모이면 ArticleService.createArticles로 저장하므로
+ * 전체 입력을 메모리에 올리지 않고, 청크마다 별도 트랜잭션으로 커밋된다
+ * (스트림을 읽는 동안 커넥션을 잡지 않도록 클래스 수준 트랜잭션을 두지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleImportService {
+
+    private final ArticleService articleService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${articles.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${articles.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    /**
+     * NDJSON 입력의 아티클을 작성자 이름으로 등록
+     * 파싱/검증에 실패한 줄은 건너뛰고 줄 번호와 함께 결과에 기록한다
+     */
+    public ArticleImportResult importArticles(InputStream input, User author) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(ArticleDraft.class);
+        ArticleImportResult result = new ArticleImportResult(maxReportedErrors);
+        List<Integer> lineNumbers = new ArrayList<>(chunkSize);
+        List<ArticleDraft> drafts = new ArrayList<>(chunkSize);
+
+        BufferedReader lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            ArticleDraft draft = parse(reader, line, lineNumber, result);
+            if (draft == null) {
+                continue;
+            }
+            lineNumbers.add(lineNumber);
+            drafts.add(draft);
+            if (drafts.size() >= chunkSize) {
+                importChunk(lineNumbers, drafts, author, result);
+                lineNumbers.clear();
+                drafts.clear();
+            }
+        }
+        importChunk(lineNumbers, drafts, author, result);
+
+        log.info("Imported {} articles for {} ({} failed)", result.getImported(), author.getUsername(),
+                result.getFailed());
+        return result;
+    }
+
+    /**
+     * 한 줄을 아티클로 변환 (실패 시 결과에 기록하고 null 반환)
+     */
+    private ArticleDraft parse(ObjectReader reader, String line, int lineNumber, ArticleImportResult result) {
+        ArticleDraft draft;
+        try {
+            draft = reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            result.fail(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+            return null;
+        }
+        if (draft == null) {
+            result.fail(lineNumber, "Article object expected");
+            return null;
+        }
+        Set<ConstraintViolation<ArticleDraft>> violations = validator.validate(draft);
+        if (!violations.isEmpty()) {
+            result.fail(lineNumber, violations.iterator().next().getMessage());
+            return null;
+        }
+        return draft;
+    }
+
+    /**
+     * 청크 저장
+     * 청크 저장이 실패하면 줄 단위로 다시 저장하여 실패한 줄만 결과에 기록한다
+     */
+    private void importChunk(List<Integer> lineNumbers, List<ArticleDraft> drafts, User author,
+                             ArticleImportResult result) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        try {
+            articleService.createArticles(drafts, author);
+            result.succeed(drafts.size());
+        } catch (RuntimeException e) {
+            log.warn("Article import chunk failed, retrying line by line: {}", e.getMessage());
+            for (int i = 0; i < drafts.size(); i++) {
+                try {
+                    articleService.createArticles(List.of(drafts.get(i)), author);
+                    result.succeed(1);
+                } catch (RuntimeException lineFailure) {
+                    result.fail(lineNumbers.get(i), lineFailure.getMessage());
+                }
+            }
+        }
+    }
+}
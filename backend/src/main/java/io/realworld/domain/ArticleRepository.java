@@ -1,17 +1,46 @@
 package io.realworld.domain;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 아티클 리포지토리
  */
 public interface ArticleRepository extends JpaRepository<Article, Long> {
 
+    /**
+     * 전문 검색 조건 (FTS5 MATCH + 선택적 tag/author/favorited 필터, 지정된 필터는 모두 AND로 적용)
+     */
+    String SEARCH_CONDITION = "FROM articles_fts f JOIN articles a ON a.id = f.rowid "
+            + "WHERE articles_fts MATCH :match "
+            + "AND (:tag IS NULL OR EXISTS (SELECT 1 FROM article_tags at JOIN tags t ON t.id = at.tag_id "
+            + "WHERE at.article_id = a.id AND t.name = :tag)) "
+            + "AND (:author IS NULL OR a.author_id = (SELECT u.id FROM users u WHERE u.username = :author)) "
+            + "AND (:favorited IS NULL OR EXISTS (SELECT 1 FROM favorites fv JOIN users u ON u.id = fv.user_id "
+            + "WHERE fv.article_id = a.id AND u.username = :favorited))";
+
+    /**
+     * slug → 아티클 ID 캐시 이름 (slug 키)
+     */
+    String ID_CACHE_NAME = "articleIds";
+
+    /**
+     * 팔로워가 팔로우하는 작성자 중 팔로워 수가 임계값 이상인 작성자 ID 서브쿼리
+     */
+    String FANOUT_ON_READ_AUTHOR_IDS = "SELECT f.following.id FROM Follow f "
+            + "WHERE f.follower = :follower AND f.following.followersCount >= :threshold";
+
     /**
      * slug로 아티클 조회 (tags, author eager fetch)
      */
@@ -23,6 +52,23 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
      */
     boolean existsBySlug(String slug);
 
+    /**
+     * 주어진 slug 중 이미 사용 중인 slug 조회
+     */
+    @Query("SELECT a.slug FROM Article a WHERE a.slug IN :slugs")
+    List<String> findExistingSlugs(@Param("slugs") Collection<String> slugs);
+
+    /**
+     * 기본 slug와 기본 slug로 시작하는 접미사 slug 조회 (slug 인덱스 범위 조회)
+     *
+     * @param base  기본 slug
+     * @param lower 기본 slug + "-" (범위 하한, 제외)
+     * @param upper 기본 slug + "." (범위 상한, 제외)
+     */
+    @Query("SELECT a.slug FROM Article a WHERE a.slug = :base OR (a.slug > :lower AND a.slug < :upper)")
+    List<String> findSlugsWithBase(@Param("base") String base, @Param("lower") String lower,
+                                   @Param("upper") String upper);
+
     /**
      * 작성자로 아티클 목록 조회 (author eager fetch)
      */
@@ -49,8 +95,266 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
     List<Article> findAllByOrderByCreatedAtDesc();
 
     /**
-     * 특정 작성자들의 아티클 목록 조회 (피드) (author eager fetch)
+     * 최신 아티클 페이지 조회 (author eager fetch, DB 페이지네이션)
+     */
+    @Query("SELECT a FROM Article a JOIN FETCH a.author ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findSliceOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * 작성자의 아티클 페이지 조회 (author eager fetch, DB 페이지네이션)
+     */
+    @Query("SELECT a FROM Article a JOIN FETCH a.author WHERE a.author = :author "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findSliceByAuthor(@Param("author") User author, Pageable pageable);
+
+    /**
+     * 태그를 포함하는 아티클 페이지 조회 (author eager fetch, DB 페이지네이션)
+     * 태그 이름은 유일하므로 DISTINCT가 필요 없다
      */
-    @Query("SELECT a FROM Article a LEFT JOIN FETCH a.author WHERE a.author IN :authors ORDER BY a.createdAt DESC")
-    List<Article> findByAuthorInOrderByCreatedAtDesc(@Param("authors") List<User> authors);
+    @Query("SELECT a FROM Article a JOIN FETCH a.author JOIN a.tags t WHERE t.name = :tagName "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findSliceByTagName(@Param("tagName") String tagName, Pageable pageable);
+
+    /**
+     * 사용자가 좋아요한 아티클 페이지 조회 (author eager fetch, DB 페이지네이션)
+     */
+    @Query("SELECT a FROM Article a JOIN FETCH a.author "
+            + "WHERE a.id IN (SELECT f.article.id FROM Favorite f WHERE f.user = :user) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findSliceFavoritedBy(@Param("user") User user, Pageable pageable);
+
+    /**
+     * 커서 이후의 최신 아티클 페이지 조회 (keyset 페이지네이션)
+     */
+    @Query("SELECT a FROM Article a JOIN FETCH a.author "
+            + "WHERE a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findSliceBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                   Pageable pageable);
+
+    /**
+     * 커서 이후의 작성자 아티클 페이지 조회 (keyset 페이지네이션)
+     */
+    @Query("SELECT a FROM Article a JOIN FETCH a.author WHERE a.author = :author "
+            + "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findSliceByAuthorBefore(@Param("author") User author, @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 커서 이후의 태그 아티클 페이지 조회 (keyset 페이지네이션)
+     */
+    @Query("SELECT a FROM Article a JOIN FETCH a.author JOIN a.tags t WHERE t.name = :tagName "
+            + "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findSliceByTagNameBefore(@Param("tagName") String tagName,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 커서 이후의 좋아요한 아티클 페이지 조회 (keyset 페이지네이션)
+     */
+    @Query("SELECT a FROM Article a JOIN FETCH a.author "
+            + "WHERE a.id IN (SELECT f.article.id FROM Favorite f WHERE f.user = :user) "
+            + "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findSliceFavoritedByBefore(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 커서 이후의 fan-out-on-read 작성자 아티클 페이지 조회 (keyset 페이지네이션)
+     */
+    @Query("SELECT a FROM Article a JOIN FETCH a.author WHERE a.author.id IN (" + FANOUT_ON_READ_AUTHOR_IDS + ") "
+            + "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findSliceByFanoutOnReadAuthorsBefore(@Param("follower") User follower,
+                                                        @Param("threshold") int threshold,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 피드 전체 아티클 수 조회 (미리 구성된 피드 항목 + fan-out-on-read 작성자의 아티클)
+     */
+    @Query("SELECT COUNT(a) FROM Article a "
+            + "WHERE a.id IN (SELECT e.article.id FROM FeedEntry e WHERE e.user = :follower) "
+            + "OR a.author.id IN (" + FANOUT_ON_READ_AUTHOR_IDS + ")")
+    long countFeed(@Param("follower") User follower, @Param("threshold") int threshold);
+
+    /**
+     * 피드 페이지의 아티클 ID 조회 (offset 페이지네이션)
+     * 미리 구성된 피드 항목과 fan-out-on-read 작성자의 아티클을 각각 최신순 인덱스로 window개까지만 읽어 DB에서 합치고
+     * (두 경로에 모두 있는 아티클은 UNION으로 한 번만 포함), 요청한 구간의 ID만 반환한다
+     */
+    @Query(value = "SELECT id FROM ("
+            + "SELECT * FROM (SELECT e.article_id AS id, e.created_at AS created_at FROM feed_entries e "
+            + "WHERE e.user_id = :userId ORDER BY e.created_at DESC, e.article_id DESC LIMIT :window) "
+            + "UNION "
+            + "SELECT * FROM (SELECT a.id AS id, a.created_at AS created_at FROM articles a "
+            + "WHERE a.author_id IN (SELECT f.following_id FROM follows f JOIN users u ON u.id = f.following_id "
+            + "WHERE f.follower_id = :userId AND u.followers_count >= :threshold) "
+            + "ORDER BY a.created_at DESC, a.id DESC LIMIT :window)"
+            + ") ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<Long> findFeedIds(@Param("userId") Long userId, @Param("threshold") int threshold,
+                           @Param("window") long window, @Param("limit") int limit, @Param("offset") long offset);
+
+    /**
+     * 작성자의 아티클 수 조회
+     */
+    long countByAuthor(User author);
+
+    /**
+     * 태그를 포함하는 아티클 수 조회
+     */
+    @Query("SELECT COUNT(a) FROM Article a JOIN a.tags t WHERE t.name = :tagName")
+    long countByTagName(@Param("tagName") String tagName);
+
+    /**
+     * 좋아요 수 1 증가 (원자적 갱신)
+     */
+    @Modifying
+    @Query(value = "UPDATE articles SET favorites_count = favorites_count + 1 WHERE id = :id", nativeQuery = true)
+    int incrementFavoritesCount(@Param("id") Long id);
+
+    /**
+     * 좋아요 수 1 감소 (원자적 갱신)
+     */
+    @Modifying
+    @Query(value = "UPDATE articles SET favorites_count = favorites_count - 1 WHERE id = :id AND favorites_count > 0",
+            nativeQuery = true)
+    int decrementFavoritesCount(@Param("id") Long id);
+
+    /**
+     * 댓글 수 1 증가 (원자적 갱신)
+     */
+    @Modifying
+    @Query(value = "UPDATE articles SET comments_count = comments_count + 1 WHERE id = :id", nativeQuery = true)
+    int incrementCommentsCount(@Param("id") Long id);
+
+    /**
+     * 댓글 수 1 감소 (원자적 갱신)
+     */
+    @Modifying
+    @Query(value = "UPDATE articles SET comments_count = comments_count - 1 WHERE id = :id AND comments_count > 0",
+            nativeQuery = true)
+    int decrementCommentsCount(@Param("id") Long id);
+
+    /**
+     * slug로 아티클 ID 조회 (연관 엔티티를 읽지 않는 가벼운 존재 확인용, 캐시)
+     * 없는 slug는 캐시하지 않고, 수정(slug 변경)/삭제 시 ArticleService에서 무효화한다
+     */
+    @Cacheable(cacheNames = ID_CACHE_NAME, unless = "#result == null")
+    @Query("SELECT a.id FROM Article a WHERE a.slug = :slug")
+    Optional<Long> findIdBySlug(@Param("slug") String slug);
+
+    /**
+     * 아티클 ID로 댓글 수 조회
+     */
+    @Query("SELECT a.commentsCount FROM Article a WHERE a.id = :id")
+    Optional<Integer> findCommentsCountById(@Param("id") Long id);
+
+    /**
+     * favorites 테이블 기준으로 어긋난 좋아요 수 복구
+     *
+     * @return 복구된 아티클 수
+     */
+    @Modifying
+    @Query(value = "UPDATE articles SET favorites_count = "
+            + "(SELECT COUNT(*) FROM favorites f WHERE f.article_id = articles.id) "
+            + "WHERE favorites_count <> (SELECT COUNT(*) FROM favorites f WHERE f.article_id = articles.id)",
+            nativeQuery = true)
+    int reconcileFavoritesCounts();
+
+    /**
+     * comments 테이블 기준으로 어긋난 댓글 수 복구
+     *
+     * @return 복구된 아티클 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE articles SET comments_count = "
+            + "(SELECT COUNT(*) FROM comments c WHERE c.article_id = articles.id) "
+            + "WHERE comments_count <> (SELECT COUNT(*) FROM comments c WHERE c.article_id = articles.id)",
+            nativeQuery = true)
+    int reconcileCommentsCounts();
+
+    /**
+     * 전문 검색 (BM25 관련도순, 제목 > 설명 > 본문 가중치, DB 페이지네이션)
+     * 가장 잘 맞는 컬럼에서 검색어를 <mark>로 강조한 발췌를 함께 반환
+     */
+    @Query(value = "SELECT a.id AS id, "
+            + "snippet(articles_fts, -1, '<mark>', '</mark>', '…', 16) AS snippet "
+            + SEARCH_CONDITION + " "
+            + "ORDER BY bm25(articles_fts, 10.0, 5.0, 1.0), a.id DESC LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<ArticleSearchRow> search(@Param("match") String match, @Param("tag") String tag,
+                                  @Param("author") String author, @Param("favorited") String favorited,
+                                  @Param("limit") int limit, @Param("offset") long offset);
+
+    /**
+     * 전문 검색 결과 수
+     */
+    @Query(value = "SELECT COUNT(*) " + SEARCH_CONDITION, nativeQuery = true)
+    long countSearch(@Param("match") String match, @Param("tag") String tag,
+                     @Param("author") String author, @Param("favorited") String favorited);
+
+    /**
+     * ID 목록으로 아티클 조회 (author fetch join, 순서는 보장하지 않음)
+     */
+    @Query("SELECT a FROM Article a JOIN FETCH a.author WHERE a.id IN :ids")
+    List<Article> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 내보내기용 아티클 스트림 (id 순, 관리되지 않는 projection이라 영속성 컨텍스트가 커지지 않음)
+     */
+    @Query("SELECT a.id AS id, a.slug AS slug, a.title AS title, a.description AS description, a.body AS body, "
+            + "a.author.username AS author, a.favoritesCount AS favoritesCount, "
+            + "a.createdAt AS createdAt, a.updatedAt AS updatedAt FROM Article a ORDER BY a.id")
+    Stream<ArticleExportRow> streamAllForExport();
+
+    /**
+     * 내보내기용 (아티클 ID, 태그 이름) 스트림 (아티클 id 순)
+     */
+    @Query("SELECT a.id AS articleId, t.name AS name FROM Article a JOIN a.tags t ORDER BY a.id")
+    Stream<ArticleTagRow> streamTagsForExport();
+
+    /**
+     * 내보내기용 아티클 projection
+     */
+    interface ArticleExportRow {
+        Long getId();
+
+        String getSlug();
+
+        String getTitle();
+
+        String getDescription();
+
+        String getBody();
+
+        String getAuthor();
+
+        int getFavoritesCount();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    /**
+     * 내보내기용 아티클 태그 projection
+     */
+    interface ArticleTagRow {
+        Long getArticleId();
+
+        String getName();
+    }
+
+    /**
+     * 전문 검색 결과 projection
+     */
+    interface ArticleSearchRow {
+        Long getId();
+
+        String getSnippet();
+    }
 }
@@ -0,0 +1,101 @@
+package io.realworld.domain;
+
+import io.realworld.api.dto.ArticleResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 아티클 응답 조립 서비스
+ * 한 페이지의 아티클에 대한 favorited, following을
+ * 항목별 한 번의 IN 쿼리로 조회하여 ArticleResponse를 만든다
+ * (favoritesCount는 articles.favorites_count 컬럼에 DB 반영 대기 중인 좋아요 증감분을 더해 사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ArticleResponseAssembler {
+
+    private final FavoriteRepository favoriteRepository;
+    private final FollowRepository followRepository;
+    private final ToggleWriteBehind toggleWriteBehind;
+
+    /**
+     * 단일 아티클 응답 생성
+     */
+    public ArticleResponse toResponse(Article article, User currentUser) {
+        return toResponses(List.of(article), currentUser).get(0);
+    }
+
+    /**
+     * 캐시된 아티클 스냅샷 응답 생성
+     */
+    public ArticleResponse toResponse(ArticleSnapshot article, User currentUser) {
+        if (currentUser == null) {
+            return ArticleResponse.of(article, false, false)
+                    .withFavoritesCountDelta(toggleWriteBehind.favoritesCountDelta(article.getId()));
+        }
+        boolean favorited = isFavorited(currentUser, article.getId(), !favoriteRepository
+                .findFavoritedArticleIds(currentUser, List.of(article.getId())).isEmpty());
+        boolean following = isFollowing(currentUser, article.getAuthorId(), !followRepository
+                .findFollowingIds(currentUser, List.of(article.getAuthorId())).isEmpty());
+        return ArticleResponse.of(article, favorited, following)
+                .withFavoritesCountDelta(toggleWriteBehind.favoritesCountDelta(article.getId()));
+    }
+
+    /**
+     * 아티클 목록 응답 생성 (입력 순서 유지)
+     */
+    public List<ArticleResponse> toResponses(List<Article> articles, User currentUser) {
+        if (articles.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> articleIds = new HashSet<>();
+        Set<Long> authorIds = new HashSet<>();
+        for (Article article : articles) {
+            articleIds.add(article.getId());
+            authorIds.add(article.getAuthor().getId());
+        }
+
+        Set<Long> favorited = currentUser == null
+                ? Set.of()
+                : new HashSet<>(favoriteRepository.findFavoritedArticleIds(currentUser, articleIds));
+        Set<Long> following = currentUser == null
+                ? Set.of()
+                : new HashSet<>(followRepository.findFollowingIds(currentUser, authorIds));
+
+        return articles.stream()
+                .map(article -> ArticleResponse.of(
+                        article,
+                        isFavorited(currentUser, article.getId(), favorited.contains(article.getId())),
+                        isFollowing(currentUser, article.getAuthor().getId(),
+                                following.contains(article.getAuthor().getId()))
+                ).withFavoritesCountDelta(toggleWriteBehind.favoritesCountDelta(article.getId())))
+                .toList();
+    }
+
+    /**
+     * 좋아요 여부 (DB 반영 대기 중인 요청 우선)
+     */
+    private boolean isFavorited(User currentUser, Long articleId, boolean persisted) {
+        if (currentUser == null) {
+            return false;
+        }
+        return toggleWriteBehind.pendingFavorite(currentUser.getId(), articleId).orElse(persisted);
+    }
+
+    /**
+     * 팔로우 여부 (DB 반영 대기 중인 요청 우선)
+     */
+    private boolean isFollowing(User currentUser, Long authorId, boolean persisted) {
+        if (currentUser == null) {
+            return false;
+        }
+        return toggleWriteBehind.pendingFollow(currentUser.getId(), authorId).orElse(persisted);
+    }
+}
@@ -0,0 +1,15 @@
+package io.realworld.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전문 검색 결과 (아티클과 검색어가 강조된 발췌)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ArticleSearchHit {
+
+    private final Article article;
+    private final String snippet;
+}
@@ -0,0 +1,42 @@
+package io.realworld.domain;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 검색어를 FTS5 MATCH 식으로 변환
+ * 검색어를 그대로 넘기면 FTS5 문법(따옴표, AND/OR/NEAR, 컬럼 필터 등)으로 해석되어 오류가 나므로
+ * 글자/숫자 단위로 잘라 각 단어를 따옴표로 감싼 접두어 검색어의 AND 조합으로 만든다
+ */
+public final class ArticleSearchQuery {
+
+    /**
+     * 검색어에 사용할 최대 단어 수 (과도하게 긴 검색어의 비용 제한)
+     */
+    static final int MAX_TERMS = 16;
+
+    /**
+     * unicode61 토크나이저와 같이 글자/숫자가 아닌 문자를 구분자로 취급
+     */
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private ArticleSearchQuery() {
+    }
+
+    /**
+     * 검색어를 MATCH 식으로 변환 (검색할 단어가 없으면 null)
+     * 예: {@code dragon's fire} → {@code "dragon"* "s"* "fire"*}
+     */
+    public static String toMatchExpression(String query) {
+        if (query == null) {
+            return null;
+        }
+        String expression = Arrays.stream(TERM_SEPARATOR.split(query))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .map(term -> "\"" + term + "\"*")
+                .collect(Collectors.joining(" "));
+        return expression.isEmpty() ? null : expression;
+    }
+}
@@ -2,40 +2,68 @@ package io.realworld.domain;
 
 import io.realworld.api.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
-import java.util.Random;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 아티클 서비스
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class ArticleService {
 
+    /**
+     * slug unique 인덱스 충돌 시 최대 시도 횟수
+     */
+    private static final int MAX_SLUG_ATTEMPTS = 3;
+    // JDBC 배치 실행 중 실패하면 DataIntegrityViolationException이 아닌 예외로 변환되므로 SQLite 메시지로 구분한다
+    private static final String SLUG_CONFLICT_MESSAGE = "UNIQUE constraint failed: articles.slug";
+
     private final ArticleRepository articleRepository;
     private final TagRepository tagRepository;
     private final UserRepository userRepository;
     private final FavoriteRepository favoriteRepository;
-    private final FollowRepository followRepository;
-
-    private static final Pattern NON_LATIN = Pattern.compile("[^\\w-]");
-    private static final Pattern WHITESPACE = Pattern.compile("[\\s]");
-    private static final String SLUG_SEPARATOR = "-";
+    private final ApplicationEventPublisher eventPublisher;
+    private final ToggleWriteBehind toggleWriteBehind;
+    private final SlugAllocator slugAllocator;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 아티클 생성
+     * slug가 동시에 할당되어 unique 인덱스와 충돌하면 새 트랜잭션에서 slug를 다시 할당한다
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Article createArticle(String title, String description, String body, List<String> tagList, User author) {
-        String slug = generateSlug(title);
+        return retryOnSlugConflict(() -> insertArticle(title, description, body, tagList, author));
+    }
+
+    private Article insertArticle(String title, String description, String body, List<String> tagList, User author) {
+        String slug = slugAllocator.allocate(title);
 
         Article article = Article.builder()
                 .slug(slug)
@@ -47,14 +75,72 @@ public class ArticleService {
 
         // 태그 처리
         if (tagList != null && !tagList.isEmpty()) {
-            for (String tagName : tagList) {
-                Tag tag = tagRepository.findByName(tagName)
-                        .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()));
-                article.addTag(tag);
+            resolveTags(tagList).forEach(article::addTag);
+        }
+
+        Article saved = articleRepository.save(article);
+        refreshTagUsageCounts(saved.getTags());
+        eventPublisher.publishEvent(new ArticleCreatedEvent(saved.getId(), author.getId()));
+        return saved;
+    }
+
+    /**
+     * 아티클 일괄 생성 (일괄 등록 청크 단위)
+     * slug 할당과 태그 조회를 청크 전체에 대해 한 번에 수행하고, 단건 생성과 같은 slug/태그 규칙을 따른다
+     */
+    @Transactional
+    public List<Article> createArticles(List<ArticleDraft> drafts, User author) {
+        List<String> slugs = slugAllocator.allocateAll(drafts.stream().map(ArticleDraft::getTitle).toList());
+
+        Set<String> tagNames = new LinkedHashSet<>();
+        drafts.stream()
+                .filter(draft -> draft.getTagList() != null)
+                .forEach(draft -> tagNames.addAll(draft.getTagList()));
+        Map<String, Tag> tags = new HashMap<>();
+        if (!tagNames.isEmpty()) {
+            resolveTags(tagNames).forEach(tag -> tags.put(tag.getName(), tag));
+        }
+
+        List<Article> articles = new ArrayList<>(drafts.size());
+        for (int i = 0; i < drafts.size(); i++) {
+            ArticleDraft draft = drafts.get(i);
+            Article article = Article.builder()
+                    .slug(slugs.get(i))
+                    .title(draft.getTitle())
+                    .description(draft.getDescription())
+                    .body(draft.getBody())
+                    .author(author)
+                    .build();
+            if (draft.getTagList() != null) {
+                draft.getTagList().forEach(name -> article.addTag(tags.get(name)));
             }
+            articles.add(article);
         }
 
-        return articleRepository.save(article);
+        List<Article> saved = articleRepository.saveAll(articles);
+        refreshTagUsageCounts(tags.values());
+        eventPublisher.publishEvent(new ArticlesImportedEvent(
+                saved.stream().map(Article::getId).toList(), author.getId()));
+        return saved;
+    }
+
+    /**
+     * 태그 이름 목록을 태그로 변환 (입력 순서 유지, 중복 제거)
+     * 기존 태그는 IN 쿼리 한 번으로 조회하고, 없는 태그는 한 번에 저장하여 flush 시 배치 INSERT로 묶는다
+     */
+    List<Tag> resolveTags(Collection<String> tagNames) {
+        Set<String> names = new LinkedHashSet<>(tagNames);
+        Map<String, Tag> tags = new HashMap<>();
+        tagRepository.findByNameIn(names).forEach(tag -> tags.put(tag.getName(), tag));
+
+        List<Tag> missing = names.stream()
+                .filter(name -> !tags.containsKey(name))
+                .map(name -> Tag.builder().name(name).build())
+                .toList();
+        if (!missing.isEmpty()) {
+            tagRepository.saveAll(missing).forEach(tag -> tags.put(tag.getName(), tag));
+        }
+        return names.stream().map(tags::get).toList();
     }
 
     /**
@@ -65,6 +151,22 @@ public class ArticleService {
                 .orElseThrow(() -> new ResourceNotFoundException("Article not found with slug: " + slug));
     }
 
+    /**
+     * Slug로 아티클 스냅샷 조회 (캐시)
+     * 수정/삭제/좋아요 변경 시 해당 slug가 무효화되고, 작성자 프로필 변경은 TTL 안에서 반영된다
+     */
+    @Cacheable(cacheNames = ArticleSnapshot.CACHE_NAME, key = "#slug")
+    public ArticleSnapshot findSnapshotBySlug(String slug) {
+        return ArticleSnapshot.of(findBySlug(slug));
+    }
+
+    /**
+     * ID로 아티클 스냅샷 조회 (이벤트 스트림 전송용, 커밋 이후 삭제되었으면 empty)
+     */
+    public Optional<ArticleSnapshot> findSnapshotById(Long id) {
+        return articleRepository.findById(id).map(ArticleSnapshot::of);
+    }
+
     /**
      * 모든 아티클 조회 (최신순)
      */
@@ -102,30 +204,110 @@ public class ArticleService {
     }
 
     /**
-     * 팔로우한 사용자들의 아티클 조회 (피드)
+     * 조건에 맞는 아티클 페이지 조회 (최신순, DB 페이지네이션)
+     * 필터 우선순위: tag > author > favorited
+     */
+    public Slice<Article> findArticles(String tag, String author, String favorited, Pageable pageable) {
+        if (tag != null) {
+            return articleRepository.findSliceByTagName(tag, pageable);
+        }
+        if (author != null) {
+            return articleRepository.findSliceByAuthor(findUser(author), pageable);
+        }
+        if (favorited != null) {
+            return articleRepository.findSliceFavoritedBy(findUser(favorited), pageable);
+        }
+        return articleRepository.findSliceOrderByCreatedAtDesc(pageable);
+    }
+
+    /**
+     * 조건에 맞는 아티클 페이지를 커서 이후부터 조회 (keyset 페이지네이션)
+     * 커서가 없으면 첫 페이지를 조회한다
+     */
+    public Slice<Article> findArticles(String tag, String author, String favorited, SeekCursor cursor, int limit) {
+        Pageable pageable = OffsetPageRequest.of(0, limit);
+        if (cursor == null) {
+            return findArticles(tag, author, favorited, pageable);
+        }
+        if (tag != null) {
+            return articleRepository.findSliceByTagNameBefore(tag, cursor.getCreatedAt(), cursor.getId(), pageable);
+        }
+        if (author != null) {
+            return articleRepository.findSliceByAuthorBefore(
+                    findUser(author), cursor.getCreatedAt(), cursor.getId(), pageable);
+        }
+        if (favorited != null) {
+            return articleRepository.findSliceFavoritedByBefore(
+                    findUser(favorited), cursor.getCreatedAt(), cursor.getId(), pageable);
+        }
+        return articleRepository.findSliceBefore(cursor.getCreatedAt(), cursor.getId(), pageable);
+    }
+
+    /**
+     * 조건에 맞는 전체 아티클 수 조회
      */
-    public List<Article> findByFollowedUsers(User currentUser) {
-        // 팔로우하는 사용자 목록 조회
-        List<Follow> follows = followRepository.findByFollower(currentUser);
+    public long countArticles(String tag, String author, String favorited) {
+        if (tag != null) {
+            return articleRepository.countByTagName(tag);
+        }
+        if (author != null) {
+            return articleRepository.countByAuthor(findUser(author));
+        }
+        if (favorited != null) {
+            return favoriteRepository.countByUser(findUser(favorited));
+        }
+        return articleRepository.count();
+    }
 
-        if (follows.isEmpty()) {
+    /**
+     * 전문 검색 (관련도순, DB 페이지네이션)
+     * 목록 필터와 달리 지정된 tag/author/favorited 필터를 모두 함께 적용한다
+     */
+    public List<ArticleSearchHit> searchArticles(String query, String tag, String author, String favorited,
+                                                 Pageable pageable) {
+        String match = ArticleSearchQuery.toMatchExpression(query);
+        if (match == null) {
+            return List.of();
+        }
+        List<ArticleRepository.ArticleSearchRow> rows = articleRepository.search(
+                match, tag, author, favorited, pageable.getPageSize(), pageable.getOffset());
+        if (rows.isEmpty()) {
             return List.of();
         }
 
-        // 팔로우하는 사용자들의 User 객체 추출
-        List<User> followedUsers = follows.stream()
-                .map(Follow::getFollowing)
+        // 관련도 순서를 유지하도록 ID 순서대로 재배열
+        Map<Long, Article> articlesById = articleRepository.findAllWithAuthorByIdIn(
+                        rows.stream().map(ArticleRepository.ArticleSearchRow::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        return rows.stream()
+                .filter(row -> articlesById.containsKey(row.getId()))
+                .map(row -> new ArticleSearchHit(articlesById.get(row.getId()), row.getSnippet()))
                 .toList();
+    }
 
-        // 팔로우하는 사용자들의 아티클 조회
-        return articleRepository.findByAuthorInOrderByCreatedAtDesc(followedUsers);
+    /**
+     * 전문 검색 결과 수
+     */
+    public long countSearchResults(String query, String tag, String author, String favorited) {
+        String match = ArticleSearchQuery.toMatchExpression(query);
+        if (match == null) {
+            return 0;
+        }
+        return articleRepository.countSearch(match, tag, author, favorited);
     }
 
     /**
      * 아티클 수정
+     * 제목 변경으로 새로 할당한 slug가 unique 인덱스와 충돌하면 새 트랜잭션에서 다시 수정한다
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @CacheEvict(cacheNames = {ArticleSnapshot.CACHE_NAME, ArticleRepository.ID_CACHE_NAME}, key = "#slug")
     public Article updateArticle(String slug, String title, String description, String body, User currentUser) {
+        return retryOnSlugConflict(() -> applyUpdate(slug, title, description, body, currentUser));
+    }
+
+    private Article applyUpdate(String slug, String title, String description, String body, User currentUser) {
         Article article = findBySlug(slug);
 
         // 작성자 확인
@@ -134,9 +316,9 @@ public class ArticleService {
         }
 
         // 제목이 변경되었으면 slug도 업데이트
-        if (title != null && !title.equals(article.getTitle())) {
-            String newSlug = generateSlug(title);
-            article.updateSlug(newSlug);
+        if (title != null && !title.equals(article.getTitle())
+                && !SlugAllocator.toSlug(title).equals(article.getSlug())) {
+            article.updateSlug(slugAllocator.allocate(title));
         }
 
         // 아티클 정보 업데이트
@@ -149,10 +331,38 @@ public class ArticleService {
         return articleRepository.save(article);
     }
 
+    /**
+     * slug 충돌 시 재시도
+     * 쓰기 커넥션이 여러 개면 (sqlite.pools.split=false) 두 요청이 같은 slug를 할당할 수 있어
+     * 충돌한 트랜잭션을 롤백하고 새 트랜잭션에서 다시 실행한다 (다시 할당할 때는 먼저 커밋된 slug가 보인다)
+     * 바깥 트랜잭션에 참여한 경우에는 롤백 후 재시도할 수 없으므로 한 번만 실행한다
+     */
+    private <T> T retryOnSlugConflict(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (DataAccessException e) {
+                if (attempt >= MAX_SLUG_ATTEMPTS || !isSlugConflict(e)) {
+                    throw e;
+                }
+                log.warn("Slug conflict, retrying with a new slug (attempt {}): {}", attempt, e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isSlugConflict(DataAccessException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(SLUG_CONFLICT_MESSAGE);
+    }
+
     /**
      * 아티클 삭제
      */
     @Transactional
+    @CacheEvict(cacheNames = {ArticleSnapshot.CACHE_NAME, ArticleRepository.ID_CACHE_NAME}, key = "#slug")
     public void deleteArticle(String slug, User currentUser) {
         Article article = findBySlug(slug);
 
@@ -161,7 +371,10 @@ public class ArticleService {
             throw new AccessDeniedException("작성자만 삭제할 수 있습니다");
         }
 
+        eventPublisher.publishEvent(new ArticleDeletedEvent(article.getId()));
+        List<Tag> tags = List.copyOf(article.getTags());
         articleRepository.delete(article);
+        refreshTagUsageCounts(tags);
     }
 
     /**
@@ -178,13 +391,14 @@ public class ArticleService {
      * 아티클의 좋아요 수 조회
      */
     public int getFavoritesCount(Article article) {
-        return (int) favoriteRepository.countByArticle(article);
+        return article.getFavoritesCount();
     }
 
     /**
      * 아티클 좋아요
      */
     @Transactional
+    @CacheEvict(cacheNames = ArticleSnapshot.CACHE_NAME, key = "#slug")
     public Article favoriteArticle(String slug, User user) {
         Article article = findBySlug(slug);
 
@@ -193,9 +407,11 @@ public class ArticleService {
             return article;
         }
 
-        // 좋아요 추가
+        // 좋아요 추가 및 좋아요 수 증가 (같은 트랜잭션)
         Favorite favorite = new Favorite(user, article);
         favoriteRepository.save(favorite);
+        articleRepository.incrementFavoritesCount(article.getId());
+        article.applyFavoritesCountDelta(1);
 
         return article;
     }
@@ -204,52 +420,57 @@ public class ArticleService {
      * 아티클 좋아요 취소
      */
     @Transactional
+    @CacheEvict(cacheNames = ArticleSnapshot.CACHE_NAME, key = "#slug")
     public Article unfavoriteArticle(String slug, User user) {
         Article article = findBySlug(slug);
 
-        // 좋아요 찾아서 삭제
+        // 좋아요 찾아서 삭제 및 좋아요 수 감소 (같은 트랜잭션)
         favoriteRepository.findByUserAndArticle(user, article)
-                .ifPresent(favoriteRepository::delete);
+                .ifPresent(favorite -> {
+                    favoriteRepository.delete(favorite);
+                    articleRepository.decrementFavoritesCount(article.getId());
+                    article.applyFavoritesCountDelta(-1);
+                });
 
         return article;
     }
 
     /**
-     * Slug 생성 (URL-friendly)
+     * 아티클 좋아요 (쓰기 지연)
+     * 쓰기 트랜잭션 없이 요청만 기록하고, DB 반영은 ToggleWriteBehind가 일괄 처리한다
      */
-    public String generateSlug(String title) {
-        String slug = toSlug(title);
-
-        // 중복 확인 및 고유 slug 생성
-        if (articleRepository.existsBySlug(slug)) {
-            slug = slug + SLUG_SEPARATOR + generateRandomString(6);
-        }
-
-        return slug;
+    @CacheEvict(cacheNames = ArticleSnapshot.CACHE_NAME, key = "#slug")
+    public Article favoriteArticleDeferred(String slug, User user) {
+        Article article = findBySlug(slug);
+        toggleWriteBehind.favorite(user, article, true);
+        return article;
     }
 
     /**
-     * 문자열을 URL-friendly slug로 변환
+     * 아티클 좋아요 취소 (쓰기 지연)
      */
-    private String toSlug(String input) {
-        String noWhitespace = WHITESPACE.matcher(input).replaceAll(SLUG_SEPARATOR);
-        String normalized = Normalizer.normalize(noWhitespace, Normalizer.Form.NFD);
-        String slug = NON_LATIN.matcher(normalized).replaceAll("");
-        return slug.toLowerCase(Locale.ENGLISH)
-                .replaceAll(SLUG_SEPARATOR + "{2,}", SLUG_SEPARATOR)
-                .replaceAll("^" + SLUG_SEPARATOR + "|" + SLUG_SEPARATOR + "$", "");
+    @CacheEvict(cacheNames = ArticleSnapshot.CACHE_NAME, key = "#slug")
+    public Article unfavoriteArticleDeferred(String slug, User user) {
+        Article article = findBySlug(slug);
+        toggleWriteBehind.favorite(user, article, false);
+        return article;
     }
 
     /**
-     * 랜덤 문자열 생성
+     * 아티클-태그 연결이 바뀐 태그들의 사용 횟수 재계산
      */
-    private String generateRandomString(int length) {
-        String chars = "abcdefghijklmnopqrstuvwxyz0123456789";
-        Random random = new Random();
-        StringBuilder sb = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            sb.append(chars.charAt(random.nextInt(chars.length())));
+    private void refreshTagUsageCounts(Collection<Tag> tags) {
+        if (tags.isEmpty()) {
+            return;
         }
-        return sb.toString();
+        tagRepository.refreshUsageCounts(tags.stream().map(Tag::getId).toList());
+    }
+
+    /**
+     * 사용자명으로 사용자 조회
+     */
+    private User findUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
     }
 }
@@ -0,0 +1,59 @@
+package io.realworld.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캐시용 아티클 스냅샷 (영속성 컨텍스트와 분리된 불변 객체)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ArticleSnapshot {
+
+    /**
+     * 스냅샷 캐시 이름 (slug 키)
+     */
+    public static final String CACHE_NAME = "articles";
+
+    private final Long id;
+    private final String slug;
+    private final String title;
+    private final String description;
+    private final String body;
+    private final List<String> tagList;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final int favoritesCount;
+    private final Long authorId;
+    private final String authorUsername;
+    private final String authorBio;
+    private final String authorImage;
+
+    /**
+     * 아티클 엔티티로 스냅샷 생성 (tags, author가 로드된 상태여야 함)
+     */
+    public static ArticleSnapshot of(Article article) {
+        User author = article.getAuthor();
+        return new ArticleSnapshot(
+                article.getId(),
+                article.getSlug(),
+                article.getTitle(),
+                article.getDescription(),
+                article.getBody(),
+                article.getTags().stream()
+                        .map(Tag::getName)
+                        .toList(),
+                article.getCreatedAt(),
+                article.getUpdatedAt(),
+                article.getFavoritesCount(),
+                author.getId(),
+                author.getUsername(),
+                author.getBio(),
+                author.getImage()
+        );
+    }
+}
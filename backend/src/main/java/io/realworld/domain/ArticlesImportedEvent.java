@@ -0,0 +1,17 @@
+package io.realworld.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 아티클 일괄 등록 도메인 이벤트 (청크 단위)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ArticlesImportedEvent {
+
+    private final List<Long> articleIds;
+    private final Long authorId;
+}
@@ -0,0 +1,16 @@
+package io.realworld.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글 생성 도메인 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentCreatedEvent {
+
+    private final Long articleId;
+    private final Long commentId;
+    private final Long authorId;
+}
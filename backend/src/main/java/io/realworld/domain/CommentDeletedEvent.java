@@ -0,0 +1,15 @@
+package io.realworld.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글 삭제 도메인 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentDeletedEvent {
+
+    private final Long articleId;
+    private final Long commentId;
+}
@@ -1,10 +1,16 @@
 package io.realworld.domain;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 댓글 리포지토리
@@ -12,18 +18,75 @@ import java.util.List;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
-     * 아티클의 모든 댓글 조회
+     * 아티클 ID로 모든 댓글 조회 (최신순, author eager fetch)
      */
-    List<Comment> findByArticleOrderByCreatedAtDesc(Article article);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.article.id = :articleId "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findByArticleId(@Param("articleId") Long articleId);
 
     /**
-     * 아티클 ID로 모든 댓글 조회
+     * 아티클의 댓글 페이지 조회 (최신순, author eager fetch, DB 페이지네이션)
      */
-    @Query("SELECT c FROM Comment c WHERE c.article.id = :articleId ORDER BY c.createdAt DESC")
-    List<Comment> findByArticleId(@Param("articleId") Long articleId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.article.id = :articleId "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Comment> findSliceByArticleId(@Param("articleId") Long articleId, Pageable pageable);
+
+    /**
+     * 커서 위치 이후의 아티클 댓글 페이지 조회 (author eager fetch, keyset 페이지네이션)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.article.id = :articleId "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Comment> findSliceByArticleIdBefore(@Param("articleId") Long articleId,
+                                              @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                              Pageable pageable);
+
+    /**
+     * ID로 댓글 조회 (author eager fetch)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.id = :id")
+    Optional<Comment> findWithAuthorById(@Param("id") Long id);
+
+    /**
+     * 아티클의 작성자 본인 댓글 삭제 (조건에 맞는 댓글이 없으면 0 반환)
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :id AND c.article.id = :articleId AND c.author.id = :authorId")
+    int deleteByIdAndArticleIdAndAuthorId(@Param("id") Long id, @Param("articleId") Long articleId,
+                                          @Param("authorId") Long authorId);
+
+    /**
+     * 댓글이 속한 아티클 ID 조회
+     */
+    @Query("SELECT c.article.id FROM Comment c WHERE c.id = :id")
+    Optional<Long> findArticleIdById(@Param("id") Long id);
 
     /**
      * 아티클의 댓글 수 조회
      */
     long countByArticle(Article article);
+
+    /**
+     * 내보내기용 댓글 스트림 (id 순)
+     */
+    @Query("SELECT c.id AS id, c.article.slug AS article, c.author.username AS author, c.body AS body, "
+            + "c.createdAt AS createdAt, c.updatedAt AS updatedAt FROM Comment c ORDER BY c.id")
+    Stream<CommentExportRow> streamAllForExport();
+
+    /**
+     * 내보내기용 댓글 projection
+     */
+    interface CommentExportRow {
+        Long getId();
+
+        String getArticle();
+
+        String getAuthor();
+
+        String getBody();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
 }
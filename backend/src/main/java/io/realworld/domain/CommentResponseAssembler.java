@@ -0,0 +1,71 @@
+package io.realworld.domain;
+
+import io.realworld.api.dto.CommentResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 댓글 응답 조립 서비스
+ * 댓글 목록의 서로 다른 작성자에 대한 following을 한 번의 IN 쿼리로 조회하여 CommentResponse를 만든다
+ * (작성자는 댓글 조회 시 fetch join으로 함께 로드되어 있어야 함)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentResponseAssembler {
+
+    private final FollowRepository followRepository;
+    private final ToggleWriteBehind toggleWriteBehind;
+
+    /**
+     * 단일 댓글 응답 생성
+     */
+    public CommentResponse toResponse(Comment comment, User currentUser) {
+        return toResponses(List.of(comment), currentUser).get(0);
+    }
+
+    /**
+     * 댓글 목록 응답 생성 (입력 순서 유지)
+     */
+    public List<CommentResponse> toResponses(List<Comment> comments, User currentUser) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> authorIds = new HashSet<>();
+        for (Comment comment : comments) {
+            authorIds.add(comment.getAuthor().getId());
+        }
+
+        // 자기 자신은 팔로우할 수 없으므로 조회자 본인의 댓글만 있으면 조회하지 않음 (댓글 작성 응답)
+        if (currentUser != null) {
+            authorIds.remove(currentUser.getId());
+        }
+        Set<Long> following = currentUser == null || authorIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(followRepository.findFollowingIds(currentUser, authorIds));
+
+        return comments.stream()
+                .map(comment -> CommentResponse.of(
+                        comment,
+                        isFollowing(currentUser, comment.getAuthor().getId(),
+                                following.contains(comment.getAuthor().getId()))
+                ))
+                .toList();
+    }
+
+    /**
+     * 팔로우 여부 (DB 반영 대기 중인 요청 우선)
+     */
+    private boolean isFollowing(User currentUser, Long authorId, boolean persisted) {
+        if (currentUser == null) {
+            return false;
+        }
+        return toggleWriteBehind.pendingFollow(currentUser.getId(), authorId).orElse(persisted);
+    }
+}
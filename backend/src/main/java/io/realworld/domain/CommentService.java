@@ -2,6 +2,9 @@ package io.realworld.domain;
 
 import io.realworld.api.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,57 +21,83 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 생성
+     * 아티클은 ID 참조로만 연결하므로 아티클 엔티티를 조회하지 않는다
      */
     @Transactional
     public Comment createComment(String articleSlug, String body, User author) {
-        Article article = articleRepository.findBySlug(articleSlug)
-                .orElseThrow(() -> new ResourceNotFoundException("Article not found with slug: " + articleSlug));
+        Long articleId = findArticleId(articleSlug);
 
         Comment comment = Comment.builder()
                 .body(body)
-                .article(article)
+                .article(articleRepository.getReferenceById(articleId))
                 .author(author)
                 .build();
 
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        articleRepository.incrementCommentsCount(articleId);
+        eventPublisher.publishEvent(new CommentCreatedEvent(articleId, saved.getId(), author.getId()));
+        return saved;
     }
 
     /**
      * 아티클의 댓글 목록 조회
      */
     public List<Comment> getCommentsByArticle(String articleSlug) {
-        Article article = articleRepository.findBySlug(articleSlug)
-                .orElseThrow(() -> new ResourceNotFoundException("Article not found with slug: " + articleSlug));
+        return commentRepository.findByArticleId(findArticleId(articleSlug));
+    }
+
+    /**
+     * 아티클의 댓글 페이지를 커서 이후부터 조회 (최신순, keyset 페이지네이션)
+     * 커서가 없으면 첫 페이지를 조회한다
+     */
+    public Slice<Comment> getCommentsByArticle(Long articleId, SeekCursor cursor, int limit) {
+        Pageable pageable = OffsetPageRequest.of(0, limit);
+        if (cursor == null) {
+            return commentRepository.findSliceByArticleId(articleId, pageable);
+        }
+        return commentRepository.findSliceByArticleIdBefore(articleId, cursor.getCreatedAt(), cursor.getId(), pageable);
+    }
 
-        return commentRepository.findByArticleOrderByCreatedAtDesc(article);
+    /**
+     * 아티클의 댓글 수 조회 (비정규화 컬럼, 기본 키로 조회)
+     */
+    public int countCommentsByArticle(Long articleId) {
+        return articleRepository.findCommentsCountById(articleId)
+                .orElseThrow(() -> new ResourceNotFoundException("Article not found with id: " + articleId));
     }
 
     /**
      * 댓글 삭제
+     * 아티클/작성자 조건을 포함한 DELETE 한 번으로 삭제하고,
+     * 삭제된 행이 없을 때만 원인(댓글 없음, 다른 아티클, 작성자 아님)을 조회한다
      */
     @Transactional
     public void deleteComment(String articleSlug, Long commentId, User user) {
-        // 아티클 존재 확인
-        Article article = articleRepository.findBySlug(articleSlug)
-                .orElseThrow(() -> new ResourceNotFoundException("Article not found with slug: " + articleSlug));
-
-        // 댓글 존재 확인
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Comment not found with id: " + commentId));
+        Long articleId = findArticleId(articleSlug);
 
-        // 댓글이 해당 아티클의 것인지 확인
-        if (!comment.getArticle().getId().equals(article.getId())) {
-            throw new ResourceNotFoundException("Comment not found in the specified article");
-        }
-
-        // 작성자 본인 확인
-        if (!comment.getAuthor().getId().equals(user.getId())) {
+        int deleted = commentRepository.deleteByIdAndArticleIdAndAuthorId(commentId, articleId, user.getId());
+        if (deleted == 0) {
+            Long commentArticleId = commentRepository.findArticleIdById(commentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Comment not found with id: " + commentId));
+            if (!commentArticleId.equals(articleId)) {
+                throw new ResourceNotFoundException("Comment not found in the specified article");
+            }
             throw new AccessDeniedException("댓글 작성자만 삭제할 수 있습니다");
         }
 
-        commentRepository.delete(comment);
+        articleRepository.decrementCommentsCount(articleId);
+        eventPublisher.publishEvent(new CommentDeletedEvent(articleId, commentId));
+    }
+
+    /**
+     * slug로 아티클 ID 조회 (캐시)
+     */
+    public Long findArticleId(String articleSlug) {
+        return articleRepository.findIdBySlug(articleSlug)
+                .orElseThrow(() -> new ResourceNotFoundException("Article not found with slug: " + articleSlug));
     }
 }
@@ -0,0 +1,234 @@
+package io.realworld.domain;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 실시간 이벤트 스트림(SSE) 브로커
+ * 아티클별 댓글 스트림과 사용자별 피드 스트림의 구독자를 메모리에 보관하고 이벤트를 전달한다.
+ * 발행은 구독자 큐에 넣기만 하고 전송은 전용 스레드가 맡으므로 발행하는 쪽은 느린 구독자를 기다리지 않으며,
+ * 큐가 가득 찬 구독자는 연결을 끊어 클라이언트가 다시 연결한 뒤 목록 API로 따라잡게 한다.
+ * 구독자는 메모리에만 있으므로 단일 인스턴스 배포를 전제로 한다
+ */
+@Component
+@Slf4j
+public class EventStreamBroker {
+
+    private final Map<Long, Set<EventStreamSubscriber>> articleSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<EventStreamSubscriber>> feedSubscribers = new ConcurrentHashMap<>();
+    private final Executor dispatcher;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    public EventStreamBroker(
+            @Value("${events.stream.buffer-size:64}") int bufferSize,
+            @Value("${events.stream.timeout:30m}") Duration timeout,
+            @Value("${events.stream.dispatch-threads:4}") int dispatchThreads,
+            @Value("${events.stream.max-dispatch-threads:256}") int maxDispatchThreads,
+            Environment environment
+    ) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.dispatcher = createDispatcher(dispatchThreads, maxDispatchThreads, environment);
+    }
+
+    /**
+     * 전송 실행기 생성
+     * 느린 소켓 쓰기가 다른 구독자의 전송을 막지 않도록 전송 중인 구독자마다 스레드를 하나씩 사용한다.
+     * 가상 스레드 모드에서는 전송마다 가상 스레드를, 그 외에는 필요할 때 늘어나는 스레드 풀을 사용하며
+     * (유휴 스레드는 dispatch-threads개까지 유지), 막힌 쓰기는 Tomcat의 쓰기 타임아웃(server.tomcat.connection-timeout)이
+     * 지나면 실패하여 스레드를 돌려준다. 풀이 가득 차면 새로 전송할 구독자는 연결을 끊는다
+     */
+    private static Executor createDispatcher(int dispatchThreads, int maxDispatchThreads, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("event-stream-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        return new ThreadPoolExecutor(dispatchThreads, maxDispatchThreads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("event-stream-"));
+    }
+
+    /**
+     * 아티클 댓글 스트림 구독
+     */
+    public SseEmitter subscribeArticle(Long articleId, User user) {
+        return subscribeArticle(articleId, user != null ? user.getId() : null, new SseEmitter(timeoutMillis));
+    }
+
+    /**
+     * 피드 스트림 구독
+     */
+    public SseEmitter subscribeFeed(User user) {
+        return subscribeFeed(user.getId(), new SseEmitter(timeoutMillis));
+    }
+
+    /**
+     * 아티클 댓글 스트림 구독자 존재 여부
+     */
+    public boolean hasArticleSubscribers(Long articleId) {
+        return articleSubscribers.containsKey(articleId);
+    }
+
+    /**
+     * 아티클 댓글 스트림을 구독 중인 로그인 사용자 ID 목록
+     */
+    public Set<Long> articleSubscriberUserIds(Long articleId) {
+        Set<Long> userIds = new HashSet<>();
+        for (EventStreamSubscriber subscriber : articleSubscribers.getOrDefault(articleId, Set.of())) {
+            if (subscriber.getUserId() != null) {
+                userIds.add(subscriber.getUserId());
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * 피드 스트림을 구독 중인 사용자 ID 목록
+     */
+    public Set<Long> feedSubscriberIds() {
+        return new HashSet<>(feedSubscribers.keySet());
+    }
+
+    /**
+     * 아티클 댓글 스트림 구독자 전체에 같은 이벤트 전달
+     */
+    public void publishToArticle(Long articleId, StreamEvent event) {
+        publishToArticle(articleId, userId -> event);
+    }
+
+    /**
+     * 아티클 댓글 스트림 구독자별 이벤트 전달 (조회자마다 다른 필드가 있는 경우, 비로그인 구독자는 null)
+     */
+    public void publishToArticle(Long articleId, Function<Long, StreamEvent> eventForUser) {
+        for (EventStreamSubscriber subscriber : articleSubscribers.getOrDefault(articleId, Set.of())) {
+            deliver(articleSubscribers, articleId, subscriber, eventForUser.apply(subscriber.getUserId()));
+        }
+    }
+
+    /**
+     * 주어진 사용자들의 피드 스트림에 이벤트 전달
+     */
+    public void publishToFeed(Collection<Long> userIds, StreamEvent event) {
+        for (Long userId : userIds) {
+            for (EventStreamSubscriber subscriber : feedSubscribers.getOrDefault(userId, Set.of())) {
+                deliver(feedSubscribers, userId, subscriber, event);
+            }
+        }
+    }
+
+    /**
+     * 모든 구독자에게 heartbeat 전송
+     * 프록시의 유휴 연결 종료를 막고, 끊긴 연결과 밀린 구독자를 주기적으로 정리한다
+     */
+    @Scheduled(fixedDelayString = "${events.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        heartbeat(articleSubscribers);
+        heartbeat(feedSubscribers);
+    }
+
+    /**
+     * 종료 시 모든 연결을 닫고 전송 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Map<Long, Set<EventStreamSubscriber>> subscribers : List.of(articleSubscribers, feedSubscribers)) {
+            subscribers.values().forEach(set -> set.forEach(EventStreamSubscriber::complete));
+            subscribers.clear();
+        }
+        if (dispatcher instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        } else if (dispatcher instanceof SimpleAsyncTaskExecutor executor) {
+            executor.close();
+        }
+    }
+
+    SseEmitter subscribeArticle(Long articleId, Long userId, SseEmitter emitter) {
+        return subscribe(articleSubscribers, articleId, userId, emitter);
+    }
+
+    SseEmitter subscribeFeed(Long userId, SseEmitter emitter) {
+        return subscribe(feedSubscribers, userId, userId, emitter);
+    }
+
+    private void heartbeat(Map<Long, Set<EventStreamSubscriber>> subscribers) {
+        subscribers.forEach((key, set) -> set.forEach(
+                subscriber -> deliver(subscribers, key, subscriber, StreamEvent.HEARTBEAT)));
+    }
+
+    /**
+     * 구독자 등록 (완료/타임아웃/오류 시 제거)
+     */
+    private SseEmitter subscribe(Map<Long, Set<EventStreamSubscriber>> subscribers, Long key, Long userId,
+                                 SseEmitter emitter) {
+        EventStreamSubscriber subscriber = new EventStreamSubscriber(userId, emitter, bufferSize);
+        subscribers.compute(key, (k, set) -> {
+            Set<EventStreamSubscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        Runnable remove = () -> unsubscribe(subscribers, key, subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+
+    /**
+     * 구독자 큐에 이벤트를 넣고 전송 예약
+     * 큐가 가득 찬 구독자(느린 구독자)는 이벤트를 더 쌓지 않고 연결을 끊는다
+     */
+    private void deliver(Map<Long, Set<EventStreamSubscriber>> subscribers, Long key,
+                         EventStreamSubscriber subscriber, StreamEvent event) {
+        if (!subscriber.offer(event)) {
+            log.debug("Dropping slow event stream subscriber (key={}, userId={})", key, subscriber.getUserId());
+            unsubscribe(subscribers, key, subscriber);
+            subscriber.complete();
+            return;
+        }
+        if (!subscriber.tryStartDrain()) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> {
+                if (!subscriber.drain()) {
+                    unsubscribe(subscribers, key, subscriber);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            unsubscribe(subscribers, key, subscriber);
+        }
+    }
+
+    private void unsubscribe(Map<Long, Set<EventStreamSubscriber>> subscribers, Long key,
+                             EventStreamSubscriber subscriber) {
+        subscribers.computeIfPresent(key, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
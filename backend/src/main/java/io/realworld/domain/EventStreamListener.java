@@ -0,0 +1,117 @@
+package io.realworld.domain;
+
+import io.realworld.api.dto.ArticleResponse;
+import io.realworld.api.dto.CommentResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 커밋된 댓글/아티클 이벤트를 SSE 구독자에게 전달하는 리스너
+ * 구독자가 없으면 DB를 조회하지 않는다.
+ * 댓글 생성/삭제 이벤트는 커밋 순서대로 전달되어야 하므로(생성 직후 삭제된 댓글이 남지 않도록)
+ * 하나의 전용 스레드에서 차례로 처리한다
+ */
+@Component
+@RequiredArgsConstructor
+public class EventStreamListener {
+
+    static final String COMMENT_CREATED = "comment-created";
+    static final String COMMENT_DELETED = "comment-deleted";
+    static final String ARTICLE_CREATED = "article-created";
+
+    private final EventStreamBroker eventStreamBroker;
+    private final CommentRepository commentRepository;
+    private final FollowRepository followRepository;
+    private final ArticleService articleService;
+    private final ToggleWriteBehind toggleWriteBehind;
+
+    private final ExecutorService commentEvents =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("comment-events-"));
+
+    /**
+     * 댓글 생성 트랜잭션이 커밋된 후 댓글 이벤트 스레드에서 아티클 댓글 스트림에 전달
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        commentEvents.execute(() -> publishCommentCreated(event));
+    }
+
+    /**
+     * 댓글 삭제 트랜잭션이 커밋된 후 댓글 이벤트 스레드에서 아티클 댓글 스트림에 삭제된 댓글 ID 전달
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        commentEvents.execute(() -> eventStreamBroker.publishToArticle(event.getArticleId(),
+                new StreamEvent(COMMENT_DELETED, Map.of("id", event.getCommentId()))));
+    }
+
+    /**
+     * 아티클 생성 트랜잭션이 커밋된 후 비동기로 피드 스트림을 구독 중인 팔로워에게 전달
+     * (새 아티클이므로 favorited는 false, 팔로워에게 보내므로 following은 true)
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleCreated(ArticleCreatedEvent event) {
+        Set<Long> subscriberIds = eventStreamBroker.feedSubscriberIds();
+        if (subscriberIds.isEmpty()) {
+            return;
+        }
+        Set<Long> followers = new HashSet<>(followRepository.findFollowerIds(event.getAuthorId(), subscriberIds));
+        if (followers.isEmpty()) {
+            return;
+        }
+        articleService.findSnapshotById(event.getArticleId()).ifPresent(article -> eventStreamBroker.publishToFeed(
+                followers, new StreamEvent(ARTICLE_CREATED, ArticleResponse.of(article, false, true))));
+    }
+
+    /**
+     * 종료 시 댓글 이벤트 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        commentEvents.shutdownNow();
+    }
+
+    /**
+     * 댓글 생성 이벤트 전달
+     * following은 구독자별로 다르므로 로그인 구독자 중 작성자의 팔로워를 한 번에 조회하여 구분한다
+     */
+    private void publishCommentCreated(CommentCreatedEvent event) {
+        if (!eventStreamBroker.hasArticleSubscribers(event.getArticleId())) {
+            return;
+        }
+        commentRepository.findWithAuthorById(event.getCommentId()).ifPresent(comment -> {
+            Set<Long> viewerIds = eventStreamBroker.articleSubscriberUserIds(event.getArticleId());
+            viewerIds.remove(event.getAuthorId());
+            Set<Long> followers = viewerIds.isEmpty()
+                    ? new HashSet<>()
+                    : new HashSet<>(followRepository.findFollowerIds(event.getAuthorId(), viewerIds));
+
+            StreamEvent followed = new StreamEvent(COMMENT_CREATED, CommentResponse.of(comment, true));
+            StreamEvent notFollowed = new StreamEvent(COMMENT_CREATED, CommentResponse.of(comment, false));
+            eventStreamBroker.publishToArticle(event.getArticleId(), userId -> isFollowing(
+                    userId, event.getAuthorId(), followers.contains(userId)) ? followed : notFollowed);
+        });
+    }
+
+    /**
+     * 팔로우 여부 (DB 반영 대기 중인 요청 우선, 비로그인 구독자는 false)
+     */
+    private boolean isFollowing(Long userId, Long authorId, boolean persisted) {
+        if (userId == null) {
+            return false;
+        }
+        return toggleWriteBehind.pendingFollow(userId, authorId).orElse(persisted);
+    }
+}
@@ -0,0 +1,77 @@
+package io.realworld.domain;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 구독자
+ * 전송 대기 이벤트를 크기가 제한된 큐에 보관하고, 한 번에 한 스레드만 큐를 비우며 전송한다
+ */
+class EventStreamSubscriber {
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<StreamEvent> pending;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    EventStreamSubscriber(Long userId, SseEmitter emitter, int bufferSize) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.pending = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    /**
+     * 구독한 사용자 ID (비로그인 구독자는 null)
+     */
+    Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * 전송 대기 큐에 이벤트 추가
+     *
+     * @return 큐가 가득 차 추가하지 못하면 false
+     */
+    boolean offer(StreamEvent event) {
+        return pending.offer(event);
+    }
+
+    /**
+     * 큐 전송 권한 획득 (이미 다른 스레드가 전송 중이면 false)
+     */
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    /**
+     * 큐의 이벤트를 모두 전송
+     * 전송 권한을 내려놓은 직후 추가된 이벤트를 놓치지 않도록 큐를 다시 확인한다
+     *
+     * @return 연결이 끊겼거나 이미 종료되어 전송하지 못하면 false
+     */
+    boolean drain() {
+        do {
+            StreamEvent event;
+            while ((event = pending.poll()) != null) {
+                try {
+                    emitter.send(event.toSseEvent());
+                } catch (IOException | IllegalStateException e) {
+                    return false;
+                }
+            }
+            draining.set(false);
+        } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        return true;
+    }
+
+    /**
+     * 연결 종료
+     */
+    void complete() {
+        emitter.complete();
+    }
+}
@@ -0,0 +1,166 @@
+package io.realworld.domain;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.realworld.domain.ArticleRepository.ArticleExportRow;
+import io.realworld.domain.ArticleRepository.ArticleTagRow;
+import io.realworld.domain.CommentRepository.CommentExportRow;
+import io.realworld.domain.FavoriteRepository.FavoriteExportRow;
+import io.realworld.domain.FollowRepository.FollowExportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 데이터 내보내기 서비스 (NDJSON)
+ * 아티클(태그, 작성자 포함), 댓글, 좋아요, 팔로우를 한 줄에 하나씩 {"type": ...} 객체로 쓴다
+ * 모든 조회를 forward-only 스트림으로 읽어 바로 출력하므로 데이터 크기와 무관하게 메모리 사용량이 일정하고,
+ * 하나의 읽기 트랜잭션에서 실행되어 SQLite WAL 스냅샷 기준으로 일관된 결과를 만든다
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class ExportService {
+
+    private final ArticleRepository articleRepository;
+    private final CommentRepository commentRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final FollowRepository followRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 데이터를 NDJSON으로 출력 (출력 스트림은 닫지 않음)
+     */
+    public void export(OutputStream output) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(output)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setRootValueSeparator(null);
+            long records = exportArticles(json)
+                    + exportComments(json)
+                    + exportFavorites(json)
+                    + exportFollows(json);
+            log.info("Exported {} records", records);
+        }
+    }
+
+    /**
+     * 아티클 출력
+     * 아티클과 태그를 각각 아티클 id 순으로 읽어 병합하므로 태그를 아티클마다 따로 조회하지 않는다
+     */
+    private long exportArticles(JsonGenerator json) throws IOException {
+        long count = 0;
+        try (Stream<ArticleExportRow> articles = articleRepository.streamAllForExport();
+             Stream<ArticleTagRow> tags = articleRepository.streamTagsForExport()) {
+            Iterator<ArticleTagRow> tagIterator = tags.iterator();
+            ArticleTagRow tag = next(tagIterator);
+
+            Iterator<ArticleExportRow> articleIterator = articles.iterator();
+            while (articleIterator.hasNext()) {
+                ArticleExportRow article = articleIterator.next();
+                startLine(json, "article");
+                json.writeStringField("slug", article.getSlug());
+                json.writeStringField("title", article.getTitle());
+                json.writeStringField("description", article.getDescription());
+                json.writeStringField("body", article.getBody());
+                json.writeStringField("author", article.getAuthor());
+                json.writeNumberField("favoritesCount", article.getFavoritesCount());
+                writeDateTime(json, "createdAt", article.getCreatedAt());
+                writeDateTime(json, "updatedAt", article.getUpdatedAt());
+                json.writeArrayFieldStart("tagList");
+                while (tag != null && tag.getArticleId() < article.getId()) {
+                    tag = next(tagIterator);
+                }
+                while (tag != null && tag.getArticleId().equals(article.getId())) {
+                    json.writeString(tag.getName());
+                    tag = next(tagIterator);
+                }
+                json.writeEndArray();
+                endLine(json);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long exportComments(JsonGenerator json) throws IOException {
+        long count = 0;
+        try (Stream<CommentExportRow> comments = commentRepository.streamAllForExport()) {
+            Iterator<CommentExportRow> iterator = comments.iterator();
+            while (iterator.hasNext()) {
+                CommentExportRow comment = iterator.next();
+                startLine(json, "comment");
+                json.writeNumberField("id", comment.getId());
+                json.writeStringField("article", comment.getArticle());
+                json.writeStringField("author", comment.getAuthor());
+                json.writeStringField("body", comment.getBody());
+                writeDateTime(json, "createdAt", comment.getCreatedAt());
+                writeDateTime(json, "updatedAt", comment.getUpdatedAt());
+                endLine(json);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long exportFavorites(JsonGenerator json) throws IOException {
+        long count = 0;
+        try (Stream<FavoriteExportRow> favorites = favoriteRepository.streamAllForExport()) {
+            Iterator<FavoriteExportRow> iterator = favorites.iterator();
+            while (iterator.hasNext()) {
+                FavoriteExportRow favorite = iterator.next();
+                startLine(json, "favorite");
+                json.writeStringField("username", favorite.getUsername());
+                json.writeStringField("article", favorite.getArticle());
+                endLine(json);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long exportFollows(JsonGenerator json) throws IOException {
+        long count = 0;
+        try (Stream<FollowExportRow> follows = followRepository.streamAllForExport()) {
+            Iterator<FollowExportRow> iterator = follows.iterator();
+            while (iterator.hasNext()) {
+                FollowExportRow follow = iterator.next();
+                startLine(json, "follow");
+                json.writeStringField("follower", follow.getFollower());
+                json.writeStringField("following", follow.getFollowing());
+                endLine(json);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void startLine(JsonGenerator json, String type) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("type", type);
+    }
+
+    private static void endLine(JsonGenerator json) throws IOException {
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static void writeDateTime(JsonGenerator json, String field, LocalDateTime value) throws IOException {
+        if (value == null) {
+            json.writeNullField(field);
+        } else {
+            json.writeStringField(field, value.toString());
+        }
+    }
+
+    private static <T> T next(Iterator<T> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+}
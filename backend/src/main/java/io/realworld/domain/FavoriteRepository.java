@@ -1,11 +1,14 @@
 package io.realworld.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 좋아요 리포지토리
@@ -33,8 +36,54 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Favorite.Fav
     @Query("SELECT f FROM Favorite f JOIN FETCH f.article a LEFT JOIN FETCH a.author WHERE f.user = :user")
     List<Favorite> findByUser(@Param("user") User user);
 
+    /**
+     * 사용자가 좋아요한 아티클 수 조회
+     */
+    long countByUser(User user);
+
     /**
      * 아티클의 모든 좋아요 조회
      */
     List<Favorite> findByArticle(Article article);
+
+    /**
+     * 주어진 아티클 중 사용자가 좋아요한 아티클 ID 목록 조회
+     */
+    @Query("SELECT f.article.id FROM Favorite f WHERE f.user = :user AND f.article.id IN :articleIds")
+    List<Long> findFavoritedArticleIds(@Param("user") User user, @Param("articleIds") Collection<Long> articleIds);
+
+    /**
+     * 좋아요 추가 (이미 있으면 무시)
+     *
+     * @return 추가된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "INSERT OR IGNORE INTO favorites (user_id, article_id) VALUES (:userId, :articleId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("articleId") Long articleId);
+
+    /**
+     * 좋아요 삭제
+     *
+     * @return 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM favorites WHERE user_id = :userId AND article_id = :articleId", nativeQuery = true)
+    int deleteByIds(@Param("userId") Long userId, @Param("articleId") Long articleId);
+
+    /**
+     * 내보내기용 좋아요 스트림 (사용자명, 아티클 slug)
+     */
+    @Query("SELECT f.user.username AS username, f.article.slug AS article FROM Favorite f "
+            + "ORDER BY f.id.userId, f.id.articleId")
+    Stream<FavoriteExportRow> streamAllForExport();
+
+    /**
+     * 내보내기용 좋아요 projection
+     */
+    interface FavoriteExportRow {
+        String getUsername();
+
+        String getArticle();
+    }
 }
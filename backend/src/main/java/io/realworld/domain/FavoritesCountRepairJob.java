@@ -0,0 +1,34 @@
+package io.realworld.domain;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * articles.favorites_count 정합성 복구 작업
+ * favorites 테이블을 기준으로 어긋난 좋아요 수를 주기적으로 다시 계산한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FavoritesCountRepairJob {
+
+    private final ArticleRepository articleRepository;
+
+    /**
+     * 좋아요 수 복구
+     *
+     * @return 복구된 아티클 수
+     */
+    @Scheduled(cron = "${favorites.count-repair-cron:0 0 4 * * *}")
+    @Transactional
+    public int repair() {
+        int repaired = articleRepository.reconcileFavoritesCounts();
+        if (repaired > 0) {
+            log.warn("Repaired favorites_count drift on {} articles", repaired);
+        }
+        return repaired;
+    }
+}
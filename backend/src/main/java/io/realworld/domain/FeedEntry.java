@@ -0,0 +1,59 @@
+package io.realworld.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 피드 항목 엔티티 (fan-out-on-write로 미리 구성한 사용자별 피드)
+ * created_at은 아티클 작성 시각을 복사하여 피드 정렬에 사용한다
+ */
+@Entity
+@Table(name = "feed_entries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FeedEntry {
+
+    @EmbeddedId
+    private FeedEntryId id;
+
+    @MapsId("userId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @MapsId("articleId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "article_id")
+    private Article article;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 복합 키 클래스
+     */
+    @Embeddable
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class FeedEntryId implements Serializable {
+        private Long userId;
+        private Long articleId;
+    }
+}
@@ -0,0 +1,87 @@
+package io.realworld.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 피드 항목 리포지토리
+ */
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, FeedEntry.FeedEntryId> {
+
+    /**
+     * 커서 이후의 사용자 피드 아티클 페이지 조회 (keyset 페이지네이션)
+     */
+    @Query("SELECT a FROM FeedEntry e JOIN e.article a JOIN FETCH a.author WHERE e.user = :user "
+            + "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND a.id < :id)) "
+            + "ORDER BY e.createdAt DESC, a.id DESC")
+    Slice<Article> findArticlesByUserBefore(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 새 아티클을 작성자의 모든 팔로워 피드에 추가 (fan-out-on-write)
+     *
+     * @return 추가된 피드 항목 수
+     */
+    @Modifying
+    @Query(value = "INSERT OR IGNORE INTO feed_entries (user_id, article_id, created_at) "
+            + "SELECT f.follower_id, a.id, a.created_at FROM follows f "
+            + "JOIN articles a ON a.author_id = f.following_id WHERE a.id = :articleId",
+            nativeQuery = true)
+    int fanOut(@Param("articleId") Long articleId);
+
+    /**
+     * 일괄 등록된 아티클을 작성자의 모든 팔로워 피드에 추가
+     *
+     * @return 추가된 피드 항목 수
+     */
+    @Modifying
+    @Query(value = "INSERT OR IGNORE INTO feed_entries (user_id, article_id, created_at) "
+            + "SELECT f.follower_id, a.id, a.created_at FROM follows f "
+            + "JOIN articles a ON a.author_id = f.following_id WHERE a.id IN (:articleIds)",
+            nativeQuery = true)
+    int fanOutAll(@Param("articleIds") Collection<Long> articleIds);
+
+    /**
+     * 작성자의 기존 아티클을 팔로워 피드에 추가 (팔로우 시 백필)
+     */
+    @Modifying
+    @Query(value = "INSERT OR IGNORE INTO feed_entries (user_id, article_id, created_at) "
+            + "SELECT :userId, a.id, a.created_at FROM articles a WHERE a.author_id = :authorId",
+            nativeQuery = true)
+    int backfill(@Param("userId") Long userId, @Param("authorId") Long authorId);
+
+    /**
+     * 작성자의 모든 아티클을 모든 팔로워 피드에 추가 (fan-out-on-read에서 fan-out-on-write로 전환 시 백필)
+     *
+     * @return 추가된 피드 항목 수
+     */
+    @Modifying
+    @Query(value = "INSERT OR IGNORE INTO feed_entries (user_id, article_id, created_at) "
+            + "SELECT f.follower_id, a.id, a.created_at FROM follows f "
+            + "JOIN articles a ON a.author_id = f.following_id WHERE f.following_id = :authorId",
+            nativeQuery = true)
+    int backfillFollowers(@Param("authorId") Long authorId);
+
+    /**
+     * 작성자의 아티클을 팔로워 피드에서 제거 (언팔로우 시)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM feed_entries WHERE user_id = :userId "
+            + "AND article_id IN (SELECT a.id FROM articles a WHERE a.author_id = :authorId)",
+            nativeQuery = true)
+    int deleteByUserIdAndAuthorId(@Param("userId") Long userId, @Param("authorId") Long authorId);
+
+    /**
+     * 아티클을 모든 피드에서 제거 (아티클 삭제 시)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM feed_entries WHERE article_id = :articleId", nativeQuery = true)
+    int deleteByArticleId(@Param("articleId") Long articleId);
+}
@@ -0,0 +1,44 @@
+package io.realworld.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 아티클 이벤트로 피드를 갱신하는 리스너
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedEventListener {
+
+    private final FeedService feedService;
+
+    /**
+     * 아티클 생성 트랜잭션이 커밋된 후 비동기로 팔로워 피드에 추가
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleCreated(ArticleCreatedEvent event) {
+        feedService.fanOut(event.getArticleId(), event.getAuthorId());
+    }
+
+    /**
+     * 아티클 일괄 등록 청크가 커밋된 후 비동기로 팔로워 피드에 추가
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        feedService.fanOut(event.getArticleIds(), event.getAuthorId());
+    }
+
+    /**
+     * 아티클 삭제 트랜잭션 안에서 피드 항목 제거
+     */
+    @EventListener
+    public void onArticleDeleted(ArticleDeletedEvent event) {
+        feedService.onArticleDeleted(event.getArticleId());
+    }
+}
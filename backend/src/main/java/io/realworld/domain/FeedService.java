@@ -0,0 +1,199 @@
+package io.realworld.domain;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 서비스
+ * 일반 작성자의 아티클은 작성 시 팔로워의 feed_entries에 미리 넣어두고(fan-out-on-write),
+ * 팔로워 수가 임계값 이상인 작성자의 아티클은 조회 시 합친다(fan-out-on-read).
+ * 두 경로 모두 인덱스를 따라 페이지 크기만큼만 읽으므로 팔로우 수와 무관하게 조회 비용이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class FeedService {
+
+    private static final Comparator<Article> NEWEST_FIRST = Comparator
+            .comparing(Article::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(Article::getId, Comparator.reverseOrder());
+
+    private final FeedEntryRepository feedEntryRepository;
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+
+    @Value("${feed.fanout-threshold:10000}")
+    private int fanoutThreshold;
+
+    /**
+     * 피드 페이지 조회 (offset 페이지네이션)
+     * 두 경로의 병합과 구간 선택은 DB에서 하고, 요청한 페이지의 아티클만 로드한다
+     */
+    public Slice<Article> findFeed(User user, Pageable pageable) {
+        int limit = pageable.getPageSize();
+        long window = pageable.getOffset() + limit + 1;
+        List<Long> ids = articleRepository.findFeedIds(
+                user.getId(), fanoutThreshold, window, limit + 1, pageable.getOffset());
+        boolean hasNext = ids.size() > limit;
+        List<Long> pageIds = hasNext ? ids.subList(0, limit) : ids;
+        return new SliceImpl<>(findAllInOrder(pageIds), pageable, hasNext);
+    }
+
+    /**
+     * 피드 페이지를 커서 이후부터 조회 (keyset 페이지네이션)
+     * 커서가 없으면 첫 페이지를 조회한다
+     */
+    public Slice<Article> findFeed(User user, SeekCursor cursor, int limit) {
+        Pageable pageable = OffsetPageRequest.of(0, limit);
+        if (cursor == null) {
+            return findFeed(user, pageable);
+        }
+        Pageable head = OffsetPageRequest.of(0, limit + 1);
+
+        List<Article> merged = merge(
+                feedEntryRepository.findArticlesByUserBefore(
+                        user, cursor.getCreatedAt(), cursor.getId(), head).getContent(),
+                articleRepository.findSliceByFanoutOnReadAuthorsBefore(
+                        user, fanoutThreshold, cursor.getCreatedAt(), cursor.getId(), head).getContent()
+        );
+        return toSlice(merged, limit, pageable);
+    }
+
+    /**
+     * 피드 전체 아티클 수 조회
+     */
+    public long countFeed(User user) {
+        return articleRepository.countFeed(user, fanoutThreshold);
+    }
+
+    /**
+     * 새 아티클을 팔로워 피드에 추가 (fan-out-on-write)
+     * 팔로워 수가 임계값 이상인 작성자는 조회 시 합치므로 건너뛴다
+     */
+    @Transactional
+    public void fanOut(Long articleId, Long authorId) {
+        if (isFanoutOnRead(authorId)) {
+            return;
+        }
+        int inserted = feedEntryRepository.fanOut(articleId);
+        log.debug("Fanned out article {} to {} feeds", articleId, inserted);
+    }
+
+    /**
+     * 일괄 등록된 아티클을 팔로워 피드에 추가 (fan-out-on-write)
+     */
+    @Transactional
+    public void fanOut(Collection<Long> articleIds, Long authorId) {
+        if (articleIds.isEmpty() || isFanoutOnRead(authorId)) {
+            return;
+        }
+        int inserted = feedEntryRepository.fanOutAll(articleIds);
+        log.debug("Fanned out {} imported articles to {} feed entries", articleIds.size(), inserted);
+    }
+
+    /**
+     * 팔로우 시 작성자의 기존 아티클을 팔로워 피드에 추가
+     */
+    @Transactional
+    public void onFollow(User follower, User following) {
+        if (following.getFollowersCount() >= fanoutThreshold) {
+            return;
+        }
+        feedEntryRepository.backfill(follower.getId(), following.getId());
+    }
+
+    /**
+     * 언팔로우 시 작성자의 아티클을 팔로워 피드에서 제거
+     * 이 언팔로우로 팔로워 수가 임계값 아래로 내려가면 fan-out-on-read 동안 피드에 넣지 않은 아티클을
+     * 남은 팔로워 피드에 채운다 (이후로는 미리 구성된 피드에서만 읽으므로)
+     *
+     * @param following 팔로워 수가 언팔로우 이후 값으로 갱신된 작성자
+     */
+    @Transactional
+    public void onUnfollow(User follower, User following) {
+        feedEntryRepository.deleteByUserIdAndAuthorId(follower.getId(), following.getId());
+        if (following.getFollowersCount() == fanoutThreshold - 1) {
+            int inserted = feedEntryRepository.backfillFollowers(following.getId());
+            log.debug("Author {} dropped below fan-out threshold, backfilled {} feed entries",
+                    following.getId(), inserted);
+        }
+    }
+
+    /**
+     * 삭제된 아티클을 모든 피드에서 제거
+     */
+    @Transactional
+    public void onArticleDeleted(Long articleId) {
+        feedEntryRepository.deleteByArticleId(articleId);
+    }
+
+    /**
+     * 작성자가 fan-out-on-read 대상인지 확인
+     */
+    private boolean isFanoutOnRead(Long authorId) {
+        return userRepository.findById(authorId)
+                .map(author -> author.getFollowersCount() >= fanoutThreshold)
+                .orElse(true);
+    }
+
+    /**
+     * ID 순서대로 아티클 조회 (author fetch join)
+     */
+    private List<Article> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Article> articlesById = articleRepository.findAllWithAuthorByIdIn(ids).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        return ids.stream()
+                .map(articlesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 두 최신순 목록을 합치고 중복 제거 (작성자가 임계값을 넘기 전에 fan-out된 아티클)
+     */
+    private List<Article> merge(List<Article> fannedOut, List<Article> fanoutOnRead) {
+        List<Article> merged = new ArrayList<>(fannedOut.size() + fanoutOnRead.size());
+        Set<Long> seen = new HashSet<>();
+        for (Article article : fannedOut) {
+            if (seen.add(article.getId())) {
+                merged.add(article);
+            }
+        }
+        for (Article article : fanoutOnRead) {
+            if (seen.add(article.getId())) {
+                merged.add(article);
+            }
+        }
+        merged.sort(NEWEST_FIRST);
+        return merged;
+    }
+
+    /**
+     * 합친 목록에서 요청한 구간을 잘라 Slice로 변환
+     */
+    private Slice<Article> toSlice(List<Article> merged, int limit, Pageable pageable) {
+        int end = Math.min(limit, merged.size());
+        return new SliceImpl<>(merged.subList(0, end), pageable, merged.size() > end);
+    }
+}
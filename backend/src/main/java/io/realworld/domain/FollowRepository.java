@@ -1,11 +1,14 @@
 package io.realworld.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 팔로우 리포지토리
@@ -42,4 +45,54 @@ public interface FollowRepository extends JpaRepository<Follow, Follow.FollowId>
      * 팔로잉 수 조회
      */
     long countByFollower(User follower);
+
+    /**
+     * 주어진 사용자 중 팔로워가 팔로우하는 사용자 ID 목록 조회
+     */
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower = :follower AND f.following.id IN :followingIds")
+    List<Long> findFollowingIds(@Param("follower") User follower,
+                                @Param("followingIds") Collection<Long> followingIds);
+
+    /**
+     * 주어진 사용자 중 팔로잉을 팔로우하는 사용자 ID 목록 조회
+     */
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :followingId AND f.follower.id IN :followerIds")
+    List<Long> findFollowerIds(@Param("followingId") Long followingId,
+                               @Param("followerIds") Collection<Long> followerIds);
+
+    /**
+     * 팔로우 추가 (이미 있으면 무시)
+     *
+     * @return 추가된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "INSERT OR IGNORE INTO follows (follower_id, following_id) VALUES (:followerId, :followingId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    /**
+     * 팔로우 삭제
+     *
+     * @return 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM follows WHERE follower_id = :followerId AND following_id = :followingId",
+            nativeQuery = true)
+    int deleteByIds(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    /**
+     * 내보내기용 팔로우 스트림 (팔로워 사용자명, 팔로잉 사용자명)
+     */
+    @Query("SELECT f.follower.username AS follower, f.following.username AS following FROM Follow f "
+            + "ORDER BY f.id.followerId, f.id.followingId")
+    Stream<FollowExportRow> streamAllForExport();
+
+    /**
+     * 내보내기용 팔로우 projection
+     */
+    interface FollowExportRow {
+        String getFollower();
+
+        String getFollowing();
+    }
 }
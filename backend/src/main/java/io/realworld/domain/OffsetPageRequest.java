@@ -0,0 +1,94 @@
+package io.realworld.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Objects;
+
+/**
+ * offset/limit 기반 페이지 요청
+ * RealWorld API의 offset은 limit의 배수가 아닐 수 있으므로 PageRequest 대신 사용
+ */
+public final class OffsetPageRequest implements Pageable {
+
+    private final long offset;
+    private final int limit;
+    private final Sort sort;
+
+    private OffsetPageRequest(long offset, int limit, Sort sort) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset은 0 이상이어야 합니다");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다");
+        }
+        this.offset = offset;
+        this.limit = limit;
+        this.sort = sort;
+    }
+
+    public static OffsetPageRequest of(long offset, int limit) {
+        return new OffsetPageRequest(offset, limit, Sort.unsorted());
+    }
+
+    @Override
+    public int getPageNumber() {
+        return (int) (offset / limit);
+    }
+
+    @Override
+    public int getPageSize() {
+        return limit;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public Sort getSort() {
+        return sort;
+    }
+
+    @Override
+    public Pageable next() {
+        return new OffsetPageRequest(offset + limit, limit, sort);
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return hasPrevious() ? new OffsetPageRequest(Math.max(0, offset - limit), limit, sort) : first();
+    }
+
+    @Override
+    public Pageable first() {
+        return new OffsetPageRequest(0, limit, sort);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+        return new OffsetPageRequest((long) pageNumber * limit, limit, sort);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return offset > 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OffsetPageRequest that)) {
+            return false;
+        }
+        return offset == that.offset && limit == that.limit && sort.equals(that.sort);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, limit, sort);
+    }
+}
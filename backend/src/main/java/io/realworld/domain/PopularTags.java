@@ -0,0 +1,31 @@
+package io.realworld.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 캐시용 인기 태그 목록 (불변 객체)
+ * 목록 내용으로 계산한 ETag를 함께 보관해 요청마다 다시 계산하지 않는다
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PopularTags {
+
+    /**
+     * 인기 태그 캐시 이름
+     */
+    public static final String CACHE_NAME = "popularTags";
+
+    private final List<String> tags;
+    private final String etag;
+
+    public static PopularTags of(List<String> tags) {
+        byte[] content = String.join("\n", tags).getBytes(StandardCharsets.UTF_8);
+        return new PopularTags(List.copyOf(tags), "\"" + DigestUtils.md5DigestAsHex(content) + "\"");
+    }
+}
@@ -15,6 +15,8 @@ public class ProfileService {
 
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
+    private final FeedService feedService;
+    private final ToggleWriteBehind toggleWriteBehind;
 
     /**
      * 사용자 이름으로 사용자 조회
@@ -36,6 +38,9 @@ public class ProfileService {
             // Follow 엔티티에서 자기 자신 팔로우 방지 검증됨
             Follow follow = new Follow(follower, following);
             followRepository.save(follow);
+            userRepository.incrementFollowersCount(following.getId());
+            following.applyFollowersCountDelta(1);
+            feedService.onFollow(follower, following);
         }
 
         return following;
@@ -49,18 +54,43 @@ public class ProfileService {
         User following = findByUsername(username);
 
         followRepository.findByFollowerAndFollowing(follower, following)
-                .ifPresent(followRepository::delete);
+                .ifPresent(follow -> {
+                    followRepository.delete(follow);
+                    userRepository.decrementFollowersCount(following.getId());
+                    following.applyFollowersCountDelta(-1);
+                    feedService.onUnfollow(follower, following);
+                });
 
         return following;
     }
 
     /**
-     * 팔로우 여부 확인
+     * 사용자 팔로우 (쓰기 지연)
+     * 쓰기 트랜잭션 없이 요청만 기록하고, DB 반영은 ToggleWriteBehind가 일괄 처리한다
+     */
+    public User followUserDeferred(User follower, String username) {
+        User following = findByUsername(username);
+        toggleWriteBehind.follow(follower, following, true);
+        return following;
+    }
+
+    /**
+     * 사용자 언팔로우 (쓰기 지연)
+     */
+    public User unfollowUserDeferred(User follower, String username) {
+        User following = findByUsername(username);
+        toggleWriteBehind.follow(follower, following, false);
+        return following;
+    }
+
+    /**
+     * 팔로우 여부 확인 (반영 대기 중인 팔로우 요청 우선)
      */
     public boolean isFollowing(User follower, User following) {
         if (follower == null || following == null) {
             return false;
         }
-        return followRepository.existsByFollowerAndFollowing(follower, following);
+        return toggleWriteBehind.pendingFollow(follower.getId(), following.getId())
+                .orElseGet(() -> followRepository.existsByFollowerAndFollowing(follower, following));
     }
 }
@@ -0,0 +1,61 @@
+package io.realworld.domain;
+
+import io.realworld.api.exception.InvalidCursorException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 최신순 keyset 페이지네이션 커서 (아티클, 피드, 댓글 목록 공용)
+ * 마지막으로 받은 항목의 (created_at, id)를 불투명한 토큰으로 인코딩한다
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SeekCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * 항목 위치로 커서 생성
+     * DB에는 밀리초 단위로 저장되므로 같은 정밀도로 잘라서 비교한다
+     */
+    public static SeekCursor of(LocalDateTime createdAt, Long id) {
+        return new SeekCursor(createdAt.truncatedTo(ChronoUnit.MILLIS), id);
+    }
+
+    /**
+     * 커서 토큰 디코딩
+     */
+    public static SeekCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid cursor: " + token);
+            }
+            return new SeekCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+
+    /**
+     * 커서 토큰 인코딩
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
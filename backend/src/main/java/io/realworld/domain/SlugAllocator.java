@@ -0,0 +1,179 @@
+package io.realworld.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 아티클 slug 할당기
+ * 기본 slug가 사용 중이면 같은 기본 slug의 숫자 접미사 중 가장 큰 값 + 1을 붙인다 (예: title, title-2, title-3)
+ * 숫자 접미사가 상한에 도달하면 랜덤 접미사를 붙인다
+ * 기본 slug와 접미사 slug를 한 번의 인덱스 범위 조회로 확인하므로 존재 확인 후 랜덤 접미사를 붙이는 방식과 달리
+ * 추가 확인 없이 충돌하지 않는 slug를 얻는다
+ * 쓰기 풀을 분리하면 (sqlite.pools.split=true) 쓰기 커넥션이 하나라 동시에 같은 slug를 할당하지 않지만,
+ * 분리하지 않으면 동시 요청이 같은 slug를 할당할 수 있으므로 slug unique 인덱스가 중복을 막고
+ * ArticleService가 새 트랜잭션에서 다시 할당한다
+ * 호출하는 쪽의 쓰기 트랜잭션 안에서 사용해야 한다
+ */
+@Component
+@RequiredArgsConstructor
+public class SlugAllocator {
+
+    private static final char SEPARATOR = '-';
+    private static final char AFTER_SEPARATOR = SEPARATOR + 1;
+    private static final long FIRST_SUFFIX = 2;
+    // long 범위를 넘지 않는 자릿수 (이보다 긴 숫자 접미사는 접미사로 보지 않는다)
+    private static final int MAX_SUFFIX_DIGITS = 18;
+    private static final long MAX_SUFFIX = 999_999_999_999_999_999L;
+    private static final int RANDOM_SUFFIX_LENGTH = 8;
+    private static final char[] RANDOM_SUFFIX_CHARS = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+
+    private final ArticleRepository articleRepository;
+
+    /**
+     * 제목으로 고유 slug 할당
+     */
+    public String allocate(String title) {
+        String base = toSlug(title);
+        List<String> taken = findSlugsWithBase(base);
+        if (!taken.contains(base)) {
+            return base;
+        }
+        long suffix = maxSuffix(base, taken) + 1;
+        return suffix <= MAX_SUFFIX ? base + SEPARATOR + suffix : randomSlug(base, new HashSet<>(taken));
+    }
+
+    /**
+     * 여러 제목의 고유 slug를 한 번에 할당 (입력 순서 유지)
+     * 기본 slug 사용 여부를 IN 쿼리 한 번으로 확인하고, 사용 중인 기본 slug만 접미사를 조회한다
+     */
+    public List<String> allocateAll(List<String> titles) {
+        List<String> bases = titles.stream().map(SlugAllocator::toSlug).toList();
+        Set<String> used = new HashSet<>(articleRepository.findExistingSlugs(new HashSet<>(bases)));
+        Map<String, Long> nextSuffixes = new HashMap<>();
+
+        List<String> slugs = new ArrayList<>(bases.size());
+        for (String base : bases) {
+            String slug = base;
+            while (!used.add(slug)) {
+                long suffix = nextSuffixes.computeIfAbsent(base, this::nextSuffixInDb);
+                if (suffix > MAX_SUFFIX) {
+                    used.addAll(findSlugsWithBase(base));
+                    slug = randomSlug(base, used);
+                    used.add(slug);
+                    break;
+                }
+                nextSuffixes.put(base, suffix + 1);
+                slug = base + SEPARATOR + suffix;
+            }
+            slugs.add(slug);
+        }
+        return slugs;
+    }
+
+    private long nextSuffixInDb(String base) {
+        return maxSuffix(base, findSlugsWithBase(base)) + 1;
+    }
+
+    private List<String> findSlugsWithBase(String base) {
+        return articleRepository.findSlugsWithBase(base, base + SEPARATOR, base + AFTER_SEPARATOR);
+    }
+
+    /**
+     * 숫자 접미사가 상한에 도달한 경우 사용 중이 아닌 랜덤 접미사를 붙인다
+     */
+    private static String randomSlug(String base, Set<String> taken) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            StringBuilder slug = new StringBuilder(base.length() + 1 + RANDOM_SUFFIX_LENGTH)
+                    .append(base)
+                    .append(SEPARATOR);
+            for (int i = 0; i < RANDOM_SUFFIX_LENGTH; i++) {
+                slug.append(RANDOM_SUFFIX_CHARS[random.nextInt(RANDOM_SUFFIX_CHARS.length)]);
+            }
+            if (!taken.contains(slug.toString())) {
+                return slug.toString();
+            }
+        }
+    }
+
+    /**
+     * 기본 slug 뒤에 붙은 숫자 접미사 중 최댓값 (없으면 FIRST_SUFFIX - 1)
+     */
+    private static long maxSuffix(String base, List<String> slugs) {
+        long max = FIRST_SUFFIX - 1;
+        for (String slug : slugs) {
+            long suffix = parseSuffix(base, slug);
+            if (suffix > max) {
+                max = suffix;
+            }
+        }
+        return max;
+    }
+
+    private static long parseSuffix(String base, String slug) {
+        int start = base.length() + 1;
+        int length = slug.length() - start;
+        if (length <= 0 || length > MAX_SUFFIX_DIGITS) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < slug.length(); i++) {
+            char c = slug.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 문자열을 URL-friendly slug로 변환
+     * 공백은 구분자로 바꾸고, 분음 부호를 분리한 뒤 영문자/숫자/_/- 이외의 문자는 제거하며,
+     * 연속된 구분자는 하나로 합치고 앞뒤 구분자는 제거한다 (정규식 없이 한 번의 순회로 처리)
+     */
+    static String toSlug(String input) {
+        String normalized = isAscii(input) ? input : Normalizer.normalize(input, Normalizer.Form.NFD);
+        StringBuilder slug = new StringBuilder(normalized.length());
+        boolean pendingSeparator = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isWhitespace(c) || c == SEPARATOR) {
+                pendingSeparator = true;
+            } else if (isWordChar(c)) {
+                if (pendingSeparator && slug.length() > 0) {
+                    slug.append(SEPARATOR);
+                }
+                pendingSeparator = false;
+                slug.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+            }
+        }
+        return slug.toString();
+    }
+
+    private static boolean isAscii(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+}
@@ -0,0 +1,32 @@
+package io.realworld.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE로 보낼 이벤트 (이름과 JSON으로 직렬화할 데이터)
+ */
+@Getter
+@RequiredArgsConstructor
+public class StreamEvent {
+
+    /**
+     * 연결 유지용 heartbeat (이벤트가 아닌 SSE 주석으로 전송되어 클라이언트 핸들러는 호출되지 않음)
+     */
+    public static final StreamEvent HEARTBEAT = new StreamEvent(null, null);
+
+    private final String name;
+    private final Object data;
+
+    /**
+     * SseEmitter 전송용 이벤트 생성 (빌더는 전송마다 새로 만들어야 함)
+     */
+    SseEmitter.SseEventBuilder toSseEvent() {
+        if (name == null) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,31 @@
+package io.realworld.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * id_generators 테이블에 다음 id를 보관하는 식별자 생성 전략
+ * IDENTITY는 INSERT마다 생성 키를 읽어야 해 Hibernate가 JDBC 배치를 끄므로,
+ * 일괄 저장하는 엔티티(아티클, 태그)는 이 전략으로 INSERT 전에 id를 할당하여 배치를 유지한다
+ *
+ * @see TableSequenceGenerator
+ */
+@IdGeneratorType(TableSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TableSequence {
+
+    /**
+     * id_generators 테이블의 행 이름
+     */
+    String name();
+
+    /**
+     * 한 번에 예약할 id 개수
+     */
+    int allocationSize() default 50;
+}
@@ -0,0 +1,127 @@
+package io.realworld.domain;
+
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerationException;
+
+import java.lang.reflect.Member;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * id_generators 테이블 기반 식별자 생성기
+ * SQLite는 쓰기 커넥션이 하나뿐이라 별도 커넥션에서 id를 예약하는 JPA TableGenerator는 현재 트랜잭션의 쓰기 잠금을 기다리다
+ * 교착되므로, 현재 트랜잭션의 커넥션에서 allocationSize만큼 예약하고 커밋 직전에 쓰지 않은 id를 돌려놓는다.
+ * 예약과 반납이 INSERT와 함께 커밋/롤백되므로 다른 프로세스나 인스턴스와 id가 겹치지 않고,
+ * 다음 id가 DB에 남아 있어 재시작 후에도 삭제된 id를 다시 쓰지 않는다
+ */
+public class TableSequenceGenerator implements BeforeExecutionGenerator, AnnotationBasedGenerator<TableSequence> {
+
+    private static final String ALLOCATE_SQL =
+            "UPDATE id_generators SET next_val = next_val + ? WHERE name = ? RETURNING next_val";
+    private static final String RELEASE_SQL =
+            "UPDATE id_generators SET next_val = ? WHERE name = ? AND next_val = ?";
+
+    private String name;
+    private int allocationSize;
+    private final transient Map<SharedSessionContractImplementor, Allocation> allocations = new ConcurrentHashMap<>();
+
+    @Override
+    public void initialize(TableSequence config, Member member, GeneratorCreationContext context) {
+        this.name = config.name();
+        this.allocationSize = config.allocationSize();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        if (!session.isTransactionInProgress()) {
+            return allocate(session, 1) - 1;
+        }
+        Allocation allocation = allocations.computeIfAbsent(session, s -> register(s));
+        if (allocation.next == allocation.end) {
+            allocation.end = allocate(session, allocationSize);
+            allocation.next = allocation.end - allocationSize;
+        }
+        return allocation.next++;
+    }
+
+    /**
+     * 트랜잭션 종료 처리 등록 (커밋 직전 미사용 id 반납, 종료 후 예약 정보 제거)
+     */
+    private Allocation register(SharedSessionContractImplementor session) {
+        Allocation allocation = new Allocation();
+        session.asEventSource().getActionQueue().registerProcess(s -> {
+            if (allocation.next < allocation.end) {
+                release(s, allocation);
+            }
+        });
+        session.asEventSource().getActionQueue().registerProcess((success, s) -> allocations.remove(session));
+        return allocation;
+    }
+
+    /**
+     * 현재 커넥션에서 count개의 id를 예약하고 예약 구간의 끝(미포함)을 반환
+     */
+    private long allocate(SharedSessionContractImplementor session, int count) {
+        JdbcCoordinator jdbc = session.getJdbcCoordinator();
+        PreparedStatement statement = jdbc.getStatementPreparer().prepareStatement(ALLOCATE_SQL);
+        try {
+            statement.setInt(1, count);
+            statement.setString(2, name);
+            ResultSet resultSet = jdbc.getResultSetReturn().extract(statement, ALLOCATE_SQL);
+            if (!resultSet.next()) {
+                throw new IdentifierGenerationException("id_generators row not found: " + name);
+            }
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            throw session.getJdbcServices().getSqlExceptionHelper()
+                    .convert(e, "could not allocate id for " + name, ALLOCATE_SQL);
+        } finally {
+            jdbc.getLogicalConnection().getResourceRegistry().release(statement);
+            jdbc.afterStatementExecution();
+        }
+    }
+
+    /**
+     * 예약했지만 쓰지 않은 id 반납 (트랜잭션 안이므로 그 사이 다른 예약이 없었다면 next_val은 예약 구간의 끝이다)
+     */
+    private void release(SharedSessionContractImplementor session, Allocation allocation) {
+        JdbcCoordinator jdbc = session.getJdbcCoordinator();
+        PreparedStatement statement = jdbc.getStatementPreparer().prepareStatement(RELEASE_SQL);
+        try {
+            statement.setLong(1, allocation.next);
+            statement.setString(2, name);
+            statement.setLong(3, allocation.end);
+            jdbc.getResultSetReturn().executeUpdate(statement, RELEASE_SQL);
+        } catch (SQLException e) {
+            throw session.getJdbcServices().getSqlExceptionHelper()
+                    .convert(e, "could not release ids for " + name, RELEASE_SQL);
+        } finally {
+            jdbc.getLogicalConnection().getResourceRegistry().release(statement);
+            jdbc.afterStatementExecution();
+        }
+    }
+
+    /**
+     * 트랜잭션에서 예약한 id 구간 [next, end)
+     */
+    private static final class Allocation {
+        private long next;
+        private long end;
+    }
+}
@@ -2,8 +2,6 @@ package io.realworld.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
@@ -25,12 +23,25 @@ import java.util.List;
 public class Tag {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableSequence(name = "tags")
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
     private String name;
 
+    /**
+     * 사용 횟수 (비정규화 컬럼)
+     * TagRepository의 재계산 쿼리로만 갱신되므로 엔티티 flush 대상에서 제외한다
+     */
+    @Column(
+        name = "usage_count",
+        nullable = false,
+        insertable = false,
+        updatable = false,
+        columnDefinition = "INTEGER NOT NULL DEFAULT 0"
+    )
+    private int usageCount;
+
     @ManyToMany(mappedBy = "tags")
     private List<Article> articles = new ArrayList<>();
 
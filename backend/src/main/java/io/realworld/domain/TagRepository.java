@@ -1,8 +1,12 @@
 package io.realworld.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,14 +20,30 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
      */
     Optional<Tag> findByName(String name);
 
+    /**
+     * 이름 목록으로 태그 일괄 조회
+     */
+    List<Tag> findByNameIn(Collection<String> names);
+
     /**
      * 이름 존재 여부 확인
      */
     boolean existsByName(String name);
 
     /**
-     * 사용 빈도가 높은 태그 목록 조회
+     * 사용 횟수가 많은 순으로 태그 이름 조회 (같으면 이름순)
+     */
+    @Query("SELECT t.name FROM Tag t ORDER BY t.usageCount DESC, t.name")
+    List<String> findPopularTagNames(Pageable pageable);
+
+    /**
+     * article_tags 기준으로 주어진 태그들의 사용 횟수 재계산
+     * 대기 중인 아티클/태그 변경을 먼저 flush한 뒤 실행한다
      */
-    @Query("SELECT t FROM Tag t JOIN t.articles a GROUP BY t ORDER BY COUNT(a) DESC")
-    List<Tag> findPopularTags();
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE tags SET usage_count = "
+            + "(SELECT COUNT(*) FROM article_tags at WHERE at.tag_id = tags.id) "
+            + "WHERE id IN :ids",
+            nativeQuery = true)
+    int refreshUsageCounts(@Param("ids") Collection<Long> ids);
 }
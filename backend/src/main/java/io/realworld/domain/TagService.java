@@ -1,6 +1,8 @@
 package io.realworld.domain;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,9 @@ public class TagService {
 
     private final TagRepository tagRepository;
 
+    @Value("${tags.popular.limit:20}")
+    private int popularLimit;
+
     /**
      * 모든 태그 조회
      */
@@ -28,11 +33,11 @@ public class TagService {
     }
 
     /**
-     * 인기 태그 조회
+     * 인기 태그 상위 K개 조회 (캐시)
+     * 사용 횟수 컬럼의 인덱스로 조회하고, 캐시 만료 주기마다 다시 계산된다
      */
-    public List<String> findPopularTags() {
-        return tagRepository.findPopularTags().stream()
-                .map(Tag::getName)
-                .toList();
+    @Cacheable(cacheNames = PopularTags.CACHE_NAME)
+    public PopularTags findPopularTags() {
+        return PopularTags.of(tagRepository.findPopularTagNames(OffsetPageRequest.of(0, popularLimit)));
     }
 }
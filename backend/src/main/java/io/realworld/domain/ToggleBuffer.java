@@ -0,0 +1,96 @@
+package io.realworld.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 토글 쓰기 버퍼
+ * (사용자, 대상)별 마지막 요청 상태만 보관하여 중복을 제거하고,
+ * DB에 반영되기 전까지 조회 시 보정할 수 있도록 대상별 카운트 증감분을 함께 관리한다
+ */
+public class ToggleBuffer {
+
+    private final Map<ToggleKey, Boolean> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> targetDeltas = new ConcurrentHashMap<>();
+    private final AtomicLong completions = new AtomicLong();
+
+    /**
+     * 토글 요청 기록
+     * DB 상태 조회는 맵 잠금 밖에서 하고, 조회 이후 반영 완료된 요청이 있으면 다시 조회한다
+     *
+     * @param key            토글 대상 키
+     * @param state          요청 상태 (true: 추가, false: 삭제)
+     * @param persistedState 대기 중인 요청이 없을 때 DB 상태 조회
+     */
+    public void toggle(ToggleKey key, boolean state, BooleanSupplier persistedState) {
+        boolean[] changed = new boolean[1];
+        boolean[] stale = new boolean[1];
+        do {
+            long version = completions.get();
+            Boolean persisted = pending.containsKey(key) ? null : persistedState.getAsBoolean();
+            changed[0] = false;
+            stale[0] = false;
+            pending.compute(key, (k, current) -> {
+                if (current == null && (persisted == null || completions.get() != version)) {
+                    stale[0] = true;
+                    return null;
+                }
+                boolean previous = current != null ? current : persisted;
+                changed[0] = previous != state;
+                return changed[0] || current != null ? state : null;
+            });
+        } while (stale[0]);
+        if (changed[0]) {
+            addDelta(key.getTargetId(), state ? 1 : -1);
+        }
+    }
+
+    /**
+     * DB에 반영되지 않은 요청 상태 (없으면 null)
+     */
+    public Boolean pendingState(ToggleKey key) {
+        return pending.get(key);
+    }
+
+    /**
+     * DB에 반영되지 않은 대상별 카운트 증감분
+     */
+    public int delta(Long targetId) {
+        return targetDeltas.getOrDefault(targetId, 0);
+    }
+
+    /**
+     * 반영할 요청 목록 (반영이 끝날 때까지 버퍼에 남아 조회 보정에 사용됨)
+     */
+    public Map<ToggleKey, Boolean> snapshot() {
+        return new HashMap<>(pending);
+    }
+
+    /**
+     * 요청 반영 완료 처리
+     * 반영 중 같은 키에 새 요청이 들어왔다면 그 요청은 다음 반영 때까지 남겨둔다
+     *
+     * @param key          반영한 키
+     * @param state        반영한 상태
+     * @param appliedDelta 실제 변경된 행 수 (추가 +1, 삭제 -1, 변경 없음 0)
+     */
+    public void complete(ToggleKey key, boolean state, int appliedDelta) {
+        // 제거 전에 증가시켜, 제거 이전에 DB 상태를 조회한 toggle이 다시 조회하도록 한다
+        completions.incrementAndGet();
+        pending.remove(key, state);
+        if (appliedDelta != 0) {
+            addDelta(key.getTargetId(), -appliedDelta);
+        }
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    private void addDelta(Long targetId, int delta) {
+        targetDeltas.merge(targetId, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+}
@@ -0,0 +1,19 @@
+package io.realworld.domain;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 토글 대상 키 (좋아요: 사용자-아티클, 팔로우: 팔로워-팔로잉)
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+public class ToggleKey {
+
+    private final Long userId;
+    private final Long targetId;
+}
@@ -0,0 +1,199 @@
+package io.realworld.domain;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 좋아요/팔로우 토글 쓰기 지연(write-behind) 처리
+ * 활성화하면 토글 요청을 버퍼에 모아 (사용자, 대상)별로 중복을 제거한 뒤 짧은 주기로 한 트랜잭션에 반영하고,
+ * 반영 전까지는 버퍼의 상태로 조회 결과를 보정한다
+ * 버퍼는 메모리에만 있으므로 프로세스가 비정상 종료되면 반영 전 요청은 유실되며, 단일 인스턴스 배포를 전제로 한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ToggleWriteBehind {
+
+    private final FavoriteRepository favoriteRepository;
+    private final FollowRepository followRepository;
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final FeedService feedService;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ToggleBuffer favorites = new ToggleBuffer();
+    private final ToggleBuffer follows = new ToggleBuffer();
+
+    @Value("${toggles.write-behind.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 좋아요/좋아요 취소 요청 기록
+     */
+    public void favorite(User user, Article article, boolean favorited) {
+        favorites.toggle(new ToggleKey(user.getId(), article.getId()), favorited,
+                () -> favoriteRepository.existsByUserAndArticle(user, article));
+    }
+
+    /**
+     * 팔로우/언팔로우 요청 기록
+     */
+    public void follow(User follower, User following, boolean followed) {
+        if (follower.getId().equals(following.getId())) {
+            throw new IllegalArgumentException("자기 자신을 팔로우할 수 없습니다.");
+        }
+        follows.toggle(new ToggleKey(follower.getId(), following.getId()), followed,
+                () -> followRepository.existsByFollowerAndFollowing(follower, following));
+    }
+
+    /**
+     * 반영 전 좋아요 상태 (대기 중인 요청이 없으면 empty)
+     */
+    public Optional<Boolean> pendingFavorite(Long userId, Long articleId) {
+        return Optional.ofNullable(favorites.pendingState(new ToggleKey(userId, articleId)));
+    }
+
+    /**
+     * 반영 전 좋아요 수 증감분
+     */
+    public int favoritesCountDelta(Long articleId) {
+        return favorites.delta(articleId);
+    }
+
+    /**
+     * 반영 전 팔로우 상태 (대기 중인 요청이 없으면 empty)
+     */
+    public Optional<Boolean> pendingFollow(Long followerId, Long followingId) {
+        return Optional.ofNullable(follows.pendingState(new ToggleKey(followerId, followingId)));
+    }
+
+    /**
+     * 버퍼의 요청을 DB에 반영
+     * 일괄 반영이 실패하면 요청별로 다시 반영하고, 그래도 실패하는 요청(삭제된 대상 등)은 버린다
+     */
+    @Scheduled(fixedDelayString = "${toggles.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (favorites.isEmpty() && follows.isEmpty()) {
+            return;
+        }
+        Map<ToggleKey, Boolean> favoriteBatch = favorites.snapshot();
+        Map<ToggleKey, Boolean> followBatch = follows.snapshot();
+
+        try {
+            Map<ToggleKey, Integer> favoriteResults = new HashMap<>();
+            Map<ToggleKey, Integer> followResults = new HashMap<>();
+            transactionTemplate.executeWithoutResult(status -> {
+                favoriteBatch.forEach((key, state) -> favoriteResults.put(key, applyFavorite(key, state)));
+                followBatch.forEach((key, state) -> followResults.put(key, applyFollow(key, state)));
+                evictArticles(favoriteBatch.keySet());
+            });
+            favoriteResults.forEach((key, applied) -> favorites.complete(key, favoriteBatch.get(key), applied));
+            followResults.forEach((key, applied) -> follows.complete(key, followBatch.get(key), applied));
+            log.debug("Flushed {} favorite and {} follow toggles", favoriteBatch.size(), followBatch.size());
+        } catch (RuntimeException e) {
+            log.warn("Batched toggle flush failed, retrying one by one: {}", e.getMessage());
+            favoriteBatch.forEach((key, state) -> flushOne(favorites, key, state, () -> {
+                int applied = applyFavorite(key, state);
+                evictArticles(Set.of(key));
+                return applied;
+            }));
+            followBatch.forEach((key, state) -> flushOne(follows, key, state, () -> applyFollow(key, state)));
+        }
+    }
+
+    /**
+     * 종료 시 남은 요청 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushOne(ToggleBuffer buffer, ToggleKey key, boolean state, ToggleWrite write) {
+        try {
+            Integer applied = transactionTemplate.execute(status -> write.apply());
+            buffer.complete(key, state, applied != null ? applied : 0);
+        } catch (RuntimeException e) {
+            log.warn("Dropping toggle {}={}: {}", key, state, e.getMessage());
+            buffer.complete(key, state, state ? 1 : -1);
+        }
+    }
+
+    private int applyFavorite(ToggleKey key, boolean favorited) {
+        if (favorited) {
+            int inserted = favoriteRepository.insertIfAbsent(key.getUserId(), key.getTargetId());
+            if (inserted > 0) {
+                articleRepository.incrementFavoritesCount(key.getTargetId());
+            }
+            return inserted;
+        }
+        int deleted = favoriteRepository.deleteByIds(key.getUserId(), key.getTargetId());
+        if (deleted > 0) {
+            articleRepository.decrementFavoritesCount(key.getTargetId());
+        }
+        return -deleted;
+    }
+
+    /**
+     * 팔로우/언팔로우 반영
+     * 작성자는 영속성 컨텍스트의 엔티티를 사용하고 원자적 갱신 후 같은 증감분을 반영하므로,
+     * 한 배치에 같은 작성자의 요청이 여러 개 있어도 FeedService는 요청마다 갱신된 팔로워 수로 임계값을 판단한다
+     */
+    private int applyFollow(ToggleKey key, boolean followed) {
+        User follower = userRepository.getReferenceById(key.getUserId());
+        if (followed) {
+            int inserted = followRepository.insertIfAbsent(key.getUserId(), key.getTargetId());
+            if (inserted > 0) {
+                User following = userRepository.findById(key.getTargetId()).orElseThrow();
+                userRepository.incrementFollowersCount(following.getId());
+                following.applyFollowersCountDelta(1);
+                feedService.onFollow(follower, following);
+            }
+            return inserted;
+        }
+        int deleted = followRepository.deleteByIds(key.getUserId(), key.getTargetId());
+        if (deleted > 0) {
+            User following = userRepository.findById(key.getTargetId()).orElseThrow();
+            userRepository.decrementFollowersCount(following.getId());
+            following.applyFollowersCountDelta(-1);
+            feedService.onUnfollow(follower, following);
+        }
+        return -deleted;
+    }
+
+    /**
+     * 좋아요 수가 바뀐 아티클의 상세 캐시 무효화 (트랜잭션 커밋 후 적용)
+     */
+    private void evictArticles(Set<ToggleKey> keys) {
+        Cache cache = cacheManager.getCache(ArticleSnapshot.CACHE_NAME);
+        if (cache == null || keys.isEmpty()) {
+            return;
+        }
+        Set<Long> articleIds = new HashSet<>();
+        keys.forEach(key -> articleIds.add(key.getTargetId()));
+        articleRepository.findAllById(articleIds).forEach(article -> cache.evict(article.getSlug()));
+    }
+
+    @FunctionalInterface
+    private interface ToggleWrite {
+        int apply();
+    }
+}
@@ -43,6 +43,19 @@ public class User extends BaseTimeEntity {
     @Column(length = 500)
     private String image;
 
+    /**
+     * 팔로워 수 (비정규화 컬럼)
+     * UserRepository의 원자적 증감 쿼리로만 갱신되므로 엔티티 flush 대상에서 제외한다
+     */
+    @Column(
+        name = "followers_count",
+        nullable = false,
+        insertable = false,
+        updatable = false,
+        columnDefinition = "INTEGER NOT NULL DEFAULT 0"
+    )
+    private int followersCount;
+
     @OneToMany(mappedBy = "author")
     private List<Article> articles = new ArrayList<>();
 
@@ -72,4 +85,11 @@ public class User extends BaseTimeEntity {
     public void updatePassword(String password) {
         this.password = password;
     }
+
+    /**
+     * DB에 반영된 팔로워 수 증감을 영속성 컨텍스트의 엔티티에도 반영
+     */
+    public void applyFollowersCountDelta(int delta) {
+        this.followersCount = Math.max(0, this.followersCount + delta);
+    }
 }
@@ -1,6 +1,9 @@
 package io.realworld.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -28,4 +31,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 사용자명 존재 여부 확인
      */
     boolean existsByUsername(String username);
+
+    /**
+     * 팔로워 수 1 증가 (원자적 갱신)
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET followers_count = followers_count + 1 WHERE id = :id", nativeQuery = true)
+    int incrementFollowersCount(@Param("id") Long id);
+
+    /**
+     * 팔로워 수 1 감소 (원자적 갱신)
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET followers_count = followers_count - 1 WHERE id = :id AND followers_count > 0",
+            nativeQuery = true)
+    int decrementFollowersCount(@Param("id") Long id);
 }
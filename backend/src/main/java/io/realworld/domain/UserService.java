@@ -9,12 +9,15 @@ import io.realworld.api.exception.DuplicateUsernameException;
 import io.realworld.api.exception.InvalidCredentialsException;
 import io.realworld.api.exception.ResourceNotFoundException;
 import io.realworld.security.JwtTokenProvider;
+import io.realworld.security.PrincipalCache;
+import io.realworld.security.TokenRenewer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -29,6 +32,8 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final PrincipalCache principalCache;
+    private final TokenRenewer tokenRenewer;
 
     /**
      * 회원가입
@@ -89,19 +94,32 @@ public class UserService {
         return UserResponse.of(user, token);
     }
 
+    /**
+     * 사용자 조회 (인증 principal의 id로 요청마다 엔티티를 로드할 때 사용)
+     */
+    public User getUser(Long id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    /**
+     * 사용자 참조 조회 (읽기 경로에서 현재 사용자의 id만 필요할 때 사용)
+     * DB를 조회하지 않고 id만 가진 프록시를 반환하므로 id 외의 속성은 읽지 않아야 한다
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public User getUserReference(Long id) {
+        return userRepository.getReferenceById(id);
+    }
+
     /**
      * 현재 사용자 정보 조회
+     * 현재 토큰의 남은 유효 기간이 충분하면 재사용하고, 만료가 가까울 때만 새로 발급
      */
-    public UserResponse getCurrentUser(String username) {
+    public UserResponse getCurrentUser(String username, String currentToken) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        // 새로운 JWT 토큰 생성
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user.getUsername(),
-                null
-        );
-        String token = jwtTokenProvider.generateToken(authentication);
+        String token = tokenRenewer.renewIfNeeded(currentToken, user.getUsername());
 
         return UserResponse.of(user, token);
     }
@@ -143,6 +161,9 @@ public class UserService {
 
         User updatedUser = userRepository.save(user);
 
+        // 캐시된 인증 principal 무효화 (기존 사용자명 기준)
+        principalCache.evict(username);
+
         // 새로운 JWT 토큰 생성
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 updatedUser.getUsername(),
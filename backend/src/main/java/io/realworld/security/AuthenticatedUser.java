@@ -0,0 +1,35 @@
+package io.realworld.security;
+
+import io.realworld.domain.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 사용자 principal
+ * 요청 사이에 캐시되어 공유되므로 사용자 엔티티 대신 변경되지 않는 식별 정보만 담는다.
+ * 사용자 엔티티가 필요한 곳에서는 id로 요청마다 다시 조회한다
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final String email;
+    private final String password;
+
+    public AuthenticatedUser(User user) {
+        this.id = user.getId();
+        this.username = user.getUsername();
+        this.email = user.getEmail();
+        this.password = user.getPassword();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of();  // 권한 목록 (현재는 빈 목록)
+    }
+}
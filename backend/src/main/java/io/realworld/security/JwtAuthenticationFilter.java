@@ -26,6 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(
@@ -36,14 +37,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
+            VerifiedToken verifiedToken = jwtTokenProvider.parseAndValidate(jwt).orElse(null);
 
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+            if (verifiedToken != null) {
+                String username = verifiedToken.getSubject();
+
+                UserDetails userDetails = principalCache.get(username, customUserDetailsService::loadUserByUsername);
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails,
-                                null,
+                                jwt,  // 현재 토큰 재사용 판단을 위해 보관
                                 userDetails.getAuthorities()
                         );
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -1,20 +1,32 @@
 package io.realworld.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성, 검증, 파싱을 담당하는 유틸리티 클래스
@@ -25,13 +37,30 @@ public class JwtTokenProvider {
 
     private final SecretKey secretKey;
     private final long expirationTime;
+    private final JwtParser jwtParser;  // 불변이며 스레드 안전하므로 재사용
+    private final Cache<String, VerifiedToken> verifiedTokens;  // 토큰 해시 -> 검증 결과 (비활성화 시 null)
 
+    public JwtTokenProvider(String secret, long expirationTime) {
+        this(secret, expirationTime, 0);
+    }
+
+    @Autowired
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long expirationTime
+            @Value("${jwt.expiration}") long expirationTime,
+            @Value("${jwt.verification-cache.maximum-size:10000}") long verificationCacheSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationTime = expirationTime;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = verificationCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verificationCacheSize)
+                        .expireAfter(new TokenExpiry())
+                        .build()
+                : null;
     }
 
     /**
@@ -60,11 +89,7 @@ public class JwtTokenProvider {
      * @return 사용자 이름
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
 
         return claims.getSubject();
     }
@@ -76,12 +101,52 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 그렇지 않으면 false
      */
     public boolean validateToken(String token) {
+        return parseAndValidate(token).isPresent();
+    }
+
+    /**
+     * JWT 토큰을 한 번만 파싱하여 검증하고 클레임을 반환
+     * 이미 검증한 토큰은 만료 전까지 서명 검증 없이 캐시된 결과를 사용
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보 (유효하지 않으면 empty)
+     */
+    public Optional<VerifiedToken> parseAndValidate(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+        if (verifiedTokens == null) {
+            return verify(token);
+        }
+
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpiredAt(Instant.now())) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(key);
+            log.error("Expired JWT token: {}", cached.getExpiration());
+            return Optional.empty();
+        }
+
+        Optional<VerifiedToken> verified = verify(token);
+        verified.filter(v -> v.getExpiration() != null)
+                .ifPresent(v -> verifiedTokens.put(key, v));
+        return verified;
+    }
+
+    /**
+     * 서명 검증 및 클레임 파싱
+     */
+    private Optional<VerifiedToken> verify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            return Optional.of(new VerifiedToken(
+                    claims.getSubject(),
+                    toInstant(claims.getIssuedAt()),
+                    toInstant(claims.getExpiration())
+            ));
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -91,6 +156,44 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    /**
+     * 캐시 항목은 토큰 만료 시각까지만 유지
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), token.getExpiration());
+            return remaining.isNegative() ? 0 : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * 원본 토큰을 메모리에 보관하지 않도록 SHA-256 해시를 캐시 키로 사용
+     */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
     }
 }
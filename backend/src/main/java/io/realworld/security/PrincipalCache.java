@@ -0,0 +1,85 @@
+package io.realworld.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 인증된 사용자 principal 캐시
+ * JWT 인증마다 사용자 조회 쿼리가 실행되지 않도록 사용자명별 principal을 짧은 TTL 동안 보관한다
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, AuthenticatedUser> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PrincipalCache(
+            @Value("${security.principal-cache.enabled:true}") boolean enabled,
+            @Value("${security.principal-cache.ttl:30s}") Duration ttl,
+            @Value("${security.principal-cache.maximum-size:10000}") long maximumSize,
+            MeterRegistry meterRegistry
+    ) {
+        if (!enabled) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /**
+     * 캐시된 principal 조회 (없으면 loader로 로드하여 캐시)
+     * 로드(DB 조회)는 캐시의 compute 안에서 실행하지 않아 같은 해시 버킷의 다른 요청을 막지 않으며,
+     * 로드하는 동안 무효화가 있었다면 이전 데이터일 수 있으므로 캐시하지 않는다
+     */
+    public AuthenticatedUser get(String username, Function<String, AuthenticatedUser> loader) {
+        if (cache == null) {
+            return loader.apply(username);
+        }
+        AuthenticatedUser cached = cache.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+        long version = evictions.get();
+        AuthenticatedUser loaded = loader.apply(username);
+        if (evictions.get() == version) {
+            cache.put(username, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * principal 무효화
+     * 트랜잭션 안이면 커밋 이후에도 한 번 더 무효화하여 커밋 전 데이터가 다시 캐시되는 것을 방지
+     */
+    public void evict(String username) {
+        if (cache == null) {
+            return;
+        }
+        evictions.incrementAndGet();
+        cache.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictions.incrementAndGet();
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package io.realworld.security;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -15,11 +18,14 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.List;
 
@@ -31,9 +37,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    /**
+     * 데이터 내보내기용 별도 자격 증명 헤더
+     */
+    public static final String EXPORT_TOKEN_HEADER = "X-Export-Token";
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomUserDetailsService customUserDetailsService;
 
+    @Value("${export.token:}")
+    private String exportToken;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -56,6 +70,8 @@ public class SecurityConfig {
                         ).permitAll()
                         // Swagger UI 및 API 문서
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        // 전체 데이터 내보내기는 사용자 JWT가 아닌 내보내기 토큰으로만 허용
+                        .requestMatchers("/api/export").access(exportTokenAuthorization())
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -65,6 +81,21 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 내보내기 요청 인가
+     * X-Export-Token 헤더가 export.token과 일치해야 하며, 토큰이 설정되지 않았으면 항상 거부한다
+     */
+    private AuthorizationManager<RequestAuthorizationContext> exportTokenAuthorization() {
+        byte[] expected = exportToken.getBytes(StandardCharsets.UTF_8);
+        return (authentication, context) -> {
+            String token = context.getRequest().getHeader(EXPORT_TOKEN_HEADER);
+            boolean granted = expected.length > 0
+                    && token != null
+                    && MessageDigest.isEqual(expected, token.getBytes(StandardCharsets.UTF_8));
+            return new AuthorizationDecision(granted);
+        };
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -0,0 +1,73 @@
+package io.realworld.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * JWT 토큰 슬라이딩 갱신
+ * 현재 토큰의 남은 유효 기간이 충분하면 그대로 재사용하고, 만료가 가까울 때만 새로 발급한다
+ */
+@Component
+public class TokenRenewer {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final double reuseRemainingRatio;
+    private final Counter issuedCounter;
+    private final Counter reusedCounter;
+
+    public TokenRenewer(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${jwt.reuse-remaining-ratio:0.5}") double reuseRemainingRatio,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.reuseRemainingRatio = reuseRemainingRatio;
+        this.issuedCounter = Counter.builder("jwt.tokens.renewal")
+                .description("현재 사용자 조회 시 토큰 발급/재사용 횟수")
+                .tag("outcome", "issued")
+                .register(meterRegistry);
+        this.reusedCounter = Counter.builder("jwt.tokens.renewal")
+                .description("현재 사용자 조회 시 토큰 발급/재사용 횟수")
+                .tag("outcome", "reused")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 토큰을 재사용하거나 새 토큰을 발급
+     *
+     * @param currentToken 요청에 사용된 토큰 (없으면 null)
+     * @param username     토큰 주체 사용자명
+     * @return 응답에 사용할 토큰
+     */
+    public String renewIfNeeded(String currentToken, String username) {
+        VerifiedToken verified = currentToken != null
+                ? jwtTokenProvider.parseAndValidate(currentToken).orElse(null)
+                : null;
+
+        if (verified != null && username.equals(verified.getSubject()) && hasEnoughLifetime(verified)) {
+            reusedCounter.increment();
+            return currentToken;
+        }
+
+        issuedCounter.increment();
+        return jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(username, null));
+    }
+
+    /**
+     * 남은 유효 기간이 전체 유효 기간의 reuseRemainingRatio보다 큰지 확인
+     */
+    private boolean hasEnoughLifetime(VerifiedToken token) {
+        if (token.getIssuedAt() == null || token.getExpiration() == null) {
+            return false;
+        }
+        Duration lifetime = Duration.between(token.getIssuedAt(), token.getExpiration());
+        Duration remaining = Duration.between(Instant.now(), token.getExpiration());
+        return remaining.toMillis() > lifetime.toMillis() * reuseRemainingRatio;
+    }
+}
@@ -0,0 +1,25 @@
+package io.realworld.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT 토큰 정보
+ */
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    private final String subject;
+    private final Instant issuedAt;
+    private final Instant expiration;
+
+    /**
+     * 주어진 시각 기준 만료 여부
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiration != null && !now.isBefore(expiration);
+    }
+}
@@ -0,0 +1,43 @@
+-- 아티클 전문 검색용 FTS5 인덱스 (articles 테이블을 원본으로 하는 external content 테이블)
+CREATE VIRTUAL TABLE articles_fts USING fts5(
+    title,
+    description,
+    body,
+    content = 'articles',
+    content_rowid = 'id',
+    tokenize = 'unicode61 remove_diacritics 2'
+);
+
+-- 기존 아티클 색인
+INSERT INTO articles_fts(articles_fts) VALUES ('rebuild');
+
+-- articles 변경을 색인에 반영하는 트리거
+CREATE TRIGGER articles_fts_after_insert
+    AFTER INSERT ON articles
+    FOR EACH ROW
+BEGIN
+    INSERT INTO articles_fts (rowid, title, description, body)
+    VALUES (NEW.id, NEW.title, NEW.description, NEW.body);
+END;
+
+CREATE TRIGGER articles_fts_after_delete
+    AFTER DELETE ON articles
+    FOR EACH ROW
+BEGIN
+    INSERT INTO articles_fts (articles_fts, rowid, title, description, body)
+    VALUES ('delete', OLD.id, OLD.title, OLD.description, OLD.body);
+END;
+
+-- 좋아요 수/updated_at 갱신 시에는 재색인하지 않도록 본문 컬럼 값이 바뀐 경우로 한정
+CREATE TRIGGER articles_fts_after_update
+    AFTER UPDATE OF title, description, body ON articles
+    FOR EACH ROW
+    WHEN OLD.title IS NOT NEW.title
+        OR OLD.description IS NOT NEW.description
+        OR OLD.body IS NOT NEW.body
+BEGIN
+    INSERT INTO articles_fts (articles_fts, rowid, title, description, body)
+    VALUES ('delete', OLD.id, OLD.title, OLD.description, OLD.body);
+    INSERT INTO articles_fts (rowid, title, description, body)
+    VALUES (NEW.id, NEW.title, NEW.description, NEW.body);
+END;
@@ -0,0 +1,9 @@
+-- tags 테이블에 사용 횟수 컬럼 추가 (인기 태그 조회 시 article_tags GROUP BY 대체)
+ALTER TABLE tags ADD COLUMN usage_count INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 사용 횟수 백필
+UPDATE tags
+SET usage_count = (SELECT COUNT(*) FROM article_tags WHERE article_tags.tag_id = tags.id);
+
+-- 인덱스 생성 (사용 횟수 내림차순 상위 K개 조회용)
+CREATE INDEX idx_tags_usage_count ON tags(usage_count DESC, name);
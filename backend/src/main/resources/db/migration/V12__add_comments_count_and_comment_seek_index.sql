@@ -0,0 +1,11 @@
+-- articles 테이블에 댓글 수 컬럼 추가 (comments 테이블 COUNT(*) 대체)
+ALTER TABLE articles ADD COLUMN comments_count INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 댓글 수 백필
+UPDATE articles
+SET comments_count = (SELECT COUNT(*) FROM comments WHERE comments.article_id = articles.id);
+
+-- 아티클별 댓글 keyset 페이지네이션용 인덱스 (article_id 단일 인덱스를 대체)
+CREATE INDEX idx_comments_article_created_at ON comments(article_id, created_at DESC, id DESC);
+
+DROP INDEX idx_comments_article_id;
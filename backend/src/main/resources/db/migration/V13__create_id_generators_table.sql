@@ -0,0 +1,18 @@
+-- 식별자 생성 테이블 생성 (애플리케이션에서 미리 할당하는 id의 다음 값)
+CREATE TABLE id_generators (
+    name TEXT PRIMARY KEY,
+    next_val INTEGER NOT NULL
+);
+
+-- 기존 최대 id와 AUTOINCREMENT 기록 중 큰 값 다음부터 할당 (삭제된 id 재사용 방지)
+INSERT INTO id_generators (name, next_val)
+SELECT 'articles', MAX(
+    COALESCE((SELECT MAX(id) FROM articles), 0),
+    COALESCE((SELECT seq FROM sqlite_sequence WHERE name = 'articles'), 0)
+) + 1;
+
+INSERT INTO id_generators (name, next_val)
+SELECT 'tags', MAX(
+    COALESCE((SELECT MAX(id) FROM tags), 0),
+    COALESCE((SELECT seq FROM sqlite_sequence WHERE name = 'tags'), 0)
+) + 1;
@@ -0,0 +1,16 @@
+-- articles 테이블에 좋아요 수 컬럼 추가 (favorites 테이블 COUNT(*) 대체)
+ALTER TABLE articles ADD COLUMN favorites_count INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 좋아요 수 백필
+UPDATE articles
+SET favorites_count = (SELECT COUNT(*) FROM favorites WHERE favorites.article_id = articles.id);
+
+-- 좋아요 수 변경이 updated_at을 갱신하지 않도록 트리거를 본문 컬럼으로 한정
+DROP TRIGGER update_articles_updated_at;
+
+CREATE TRIGGER update_articles_updated_at
+    AFTER UPDATE OF slug, title, description, body ON articles
+    FOR EACH ROW
+BEGIN
+    UPDATE articles SET updated_at = CURRENT_TIMESTAMP WHERE id = NEW.id;
+END;
@@ -0,0 +1,36 @@
+-- users 테이블에 팔로워 수 컬럼 추가 (피드 fan-out 방식 결정에 사용)
+ALTER TABLE users ADD COLUMN followers_count INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 팔로워 수 백필
+UPDATE users
+SET followers_count = (SELECT COUNT(*) FROM follows WHERE follows.following_id = users.id);
+
+-- 팔로워 수 변경이 updated_at을 갱신하지 않도록 트리거를 프로필 컬럼으로 한정
+DROP TRIGGER update_users_updated_at;
+
+CREATE TRIGGER update_users_updated_at
+    AFTER UPDATE OF username, email, password, bio, image ON users
+    FOR EACH ROW
+BEGIN
+    UPDATE users SET updated_at = CURRENT_TIMESTAMP WHERE id = NEW.id;
+END;
+
+-- feed_entries 테이블 생성 (fan-out-on-write로 미리 구성한 사용자별 피드)
+CREATE TABLE feed_entries (
+    user_id INTEGER NOT NULL,
+    article_id INTEGER NOT NULL,
+    created_at DATETIME NOT NULL,
+    PRIMARY KEY (user_id, article_id),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (article_id) REFERENCES articles(id) ON DELETE CASCADE
+);
+
+-- 인덱스 생성
+CREATE INDEX idx_feed_entries_user_created_at ON feed_entries(user_id, created_at DESC, article_id DESC);
+CREATE INDEX idx_feed_entries_article_id ON feed_entries(article_id);
+
+-- 기존 팔로우 관계로 피드 백필
+INSERT INTO feed_entries (user_id, article_id, created_at)
+SELECT f.follower_id, a.id, a.created_at
+FROM follows f
+JOIN articles a ON a.author_id = f.following_id;
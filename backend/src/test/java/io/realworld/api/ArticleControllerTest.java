@@ -1,19 +1,26 @@
 package io.realworld.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.realworld.domain.Article;
 import io.realworld.domain.ArticleRepository;
+import io.realworld.domain.Tag;
 import io.realworld.domain.TagRepository;
 import io.realworld.domain.User;
 import io.realworld.domain.UserRepository;
+import io.realworld.domain.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +28,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -58,6 +72,12 @@ class ArticleControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private UserService userService;
+
     private String authToken;
     private User testUser;
 
@@ -130,6 +150,115 @@ class ArticleControllerTest {
                 .andExpect(jsonPath("$.articlesCount").value(2));
     }
 
+    @Test
+    @DisplayName("아티클 목록 조회 시 limit/offset이 적용되고 전체 개수가 반환된다")
+    void getArticlesWithPagination() throws Exception {
+        createTestArticle("Test Article 1", "Description 1", "Body 1");
+        createTestArticle("Test Article 2", "Description 2", "Body 2");
+        createTestArticle("Test Article 3", "Description 3", "Body 3");
+
+        mockMvc.perform(get("/api/articles")
+                        .param("limit", "2")
+                        .param("offset", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(2)))
+                .andExpect(jsonPath("$.articles[0].title").value("Test Article 2"))
+                .andExpect(jsonPath("$.articles[1].title").value("Test Article 1"))
+                .andExpect(jsonPath("$.articlesCount").value(3));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0, limit",
+        "-1, 0, limit",
+        "1000000, 0, limit",
+        "20, -1, offset"
+    })
+    @DisplayName("범위를 벗어난 limit/offset으로 아티클 목록이나 피드를 조회하면 422 에러가 발생한다")
+    void getArticlesWithInvalidPagination(int limit, int offset, String field) throws Exception {
+        mockMvc.perform(get("/api/articles")
+                        .param("limit", String.valueOf(limit))
+                        .param("offset", String.valueOf(offset)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors." + field).isArray());
+
+        mockMvc.perform(get("/api/articles/feed")
+                        .header("Authorization", "Token " + authToken)
+                        .param("limit", String.valueOf(limit))
+                        .param("offset", String.valueOf(offset)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors." + field).isArray());
+    }
+
+    @Test
+    @DisplayName("limit 상한값으로는 조회할 수 있다")
+    void getArticlesWithMaxLimit() throws Exception {
+        createTestArticle("Bounded", "Description", "Body", List.of());
+
+        mockMvc.perform(get("/api/articles").param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("withCount=false이면 개수를 세지 않으므로 articlesCount를 생략한다")
+    void getArticlesWithoutCount() throws Exception {
+        createTestArticle("Test Article 1", "Description 1", "Body 1");
+        createTestArticle("Test Article 2", "Description 2", "Body 2");
+        createTestArticle("Test Article 3", "Description 3", "Body 3");
+
+        mockMvc.perform(get("/api/articles")
+                        .param("limit", "2")
+                        .param("withCount", "false"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(2)))
+                .andExpect(jsonPath("$.articlesCount").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("커서 모드로 아티클 목록을 끝까지 조회할 수 있다")
+    void getArticlesWithCursor() throws Exception {
+        createTestArticle("Test Article 1", "Description 1", "Body 1");
+        createTestArticle("Test Article 2", "Description 2", "Body 2");
+        createTestArticle("Test Article 3", "Description 3", "Body 3");
+
+        String response = mockMvc.perform(get("/api/articles")
+                        .param("limit", "2")
+                        .param("cursor", ""))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(2)))
+                .andExpect(jsonPath("$.articles[0].title").value("Test Article 3"))
+                .andExpect(jsonPath("$.articles[1].title").value("Test Article 2"))
+                .andExpect(jsonPath("$.articlesCount").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value(notNullValue()))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String nextCursor = objectMapper.readTree(response).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/articles")
+                        .param("limit", "2")
+                        .param("cursor", nextCursor))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(1)))
+                .andExpect(jsonPath("$.articles[0].title").value("Test Article 1"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 아티클 목록 조회 시 400 에러가 발생한다")
+    void getArticlesWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/articles")
+                        .param("cursor", "not-a-cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("slug로 아티클 상세 조회가 성공적으로 수행된다")
     void getArticle() throws Exception {
@@ -180,6 +309,61 @@ class ArticleControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("아티클 좋아요/취소 시 좋아요 수가 갱신된다")
+    void favoriteAndUnfavoriteArticle() throws Exception {
+        String slug = createTestArticle("Test Article", "Description", "Body");
+
+        mockMvc.perform(post("/api/articles/" + slug + "/favorite")
+                        .header("Authorization", "Token " + authToken))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.article.favorited").value(true))
+                .andExpect(jsonPath("$.article.favoritesCount").value(1));
+
+        mockMvc.perform(get("/api/articles").header("Authorization", "Token " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[0].favorited").value(true))
+                .andExpect(jsonPath("$.articles[0].favoritesCount").value(1));
+
+        mockMvc.perform(delete("/api/articles/" + slug + "/favorite")
+                        .header("Authorization", "Token " + authToken))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.article.favorited").value(false))
+                .andExpect(jsonPath("$.article.favoritesCount").value(0));
+    }
+
+    @Test
+    @DisplayName("팔로우한 작성자의 기존 아티클이 피드에 포함된다")
+    void getFeedAfterFollow() throws Exception {
+        User author = userRepository.save(User.builder()
+                .username("author")
+                .email("author@example.com")
+                .password(passwordEncoder.encode("password123"))
+                .build());
+        articleRepository.save(Article.builder()
+                .slug("author-article")
+                .title("Author Article")
+                .description("Description")
+                .body("Body")
+                .author(author)
+                .build());
+
+        mockMvc.perform(post("/api/profiles/author/follow")
+                        .header("Authorization", "Token " + authToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/articles/feed")
+                        .header("Authorization", "Token " + authToken))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(1)))
+                .andExpect(jsonPath("$.articles[0].slug").value("author-article"))
+                .andExpect(jsonPath("$.articles[0].author.following").value(true))
+                .andExpect(jsonPath("$.articlesCount").value(1));
+    }
+
     @Test
     @DisplayName("인증 없이 아티클 작성 시 403 에러가 발생한다")
     void createArticleWithoutAuth() throws Exception {
@@ -199,12 +383,184 @@ class ArticleControllerTest {
     /**
      * 테스트 아티클 생성 헬퍼 메서드
      */
+    @Test
+    @DisplayName("NDJSON 일괄 등록 시 유효한 줄은 저장하고 실패한 줄은 줄 번호와 함께 반환한다")
+    void importArticles() throws Exception {
+        createTestArticle("Imported", "Description", "Body");
+        String ndjson = String.join("\n",
+                "{\"title\":\"Imported\",\"description\":\"d\",\"body\":\"b\",\"tagList\":[\"a\",\"b\"]}",
+                "{\"title\":\"Imported\",\"description\":\"d\",\"body\":\"b\",\"tagList\":[\"b\"]}",
+                "",
+                "{\"title\":\"Broken\"",
+                "{\"title\":\"No body\",\"description\":\"d\"}",
+                "{\"title\":\"Other\",\"description\":\"d\",\"body\":\"b\"}");
+
+        mockMvc.perform(post("/api/articles/import")
+                        .header("Authorization", "Token " + authToken)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(4))
+                .andExpect(jsonPath("$.errors[1].line").value(5))
+                .andExpect(jsonPath("$.errors[1].message").value("본문은 필수입니다"));
+
+        List<Article> imported = articleRepository.findAll();
+        assertThat(imported).hasSize(4);
+        assertThat(imported).extracting(Article::getSlug).doesNotHaveDuplicates();
+        assertThat(tagRepository.findAll()).extracting(Tag::getName).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    @DisplayName("q로 검색하면 제목 일치가 본문 일치보다 먼저 오고 강조된 snippet이 포함된다")
+    void searchArticles() throws Exception {
+        createTestArticle("Cooking pasta", "Kitchen notes", "A long story about a dragon in the kitchen");
+        createTestArticle("Dragon taming", "Field guide", "Nothing special here");
+        createTestArticle("Unrelated", "Description", "Body");
+
+        mockMvc.perform(get("/api/articles").param("q", "dragon"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(2)))
+                .andExpect(jsonPath("$.articles[0].title").value("Dragon taming"))
+                .andExpect(jsonPath("$.articles[0].snippet").value(containsString("<mark>Dragon</mark>")))
+                .andExpect(jsonPath("$.articles[1].title").value("Cooking pasta"))
+                .andExpect(jsonPath("$.articles[1].snippet").value(containsString("<mark>dragon</mark>")))
+                .andExpect(jsonPath("$.articlesCount").value(2));
+    }
+
+    @Test
+    @DisplayName("검색은 접두어로 일치하고 limit/offset과 필터가 함께 적용된다")
+    void searchArticlesWithPaginationAndFilter() throws Exception {
+        createTestArticle("Dragons one", "Description", "Body");
+        createTestArticle("Dragons two", "Description", "Body");
+        createTestArticle("Dragons three", "Description", "Body");
+
+        mockMvc.perform(get("/api/articles")
+                        .param("q", "drag")
+                        .param("author", "testuser")
+                        .param("limit", "2")
+                        .param("offset", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(2)))
+                .andExpect(jsonPath("$.articlesCount").value(3));
+
+        mockMvc.perform(get("/api/articles")
+                        .param("q", "drag")
+                        .param("author", "someone-else"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(0)))
+                .andExpect(jsonPath("$.articlesCount").value(0));
+    }
+
+    @Test
+    @DisplayName("수정된 아티클은 새 내용으로 검색되고 FTS5 문법 문자는 일반 문자로 취급된다")
+    void searchArticlesAfterUpdate() throws Exception {
+        String slug = createTestArticle("Original Title", "Description", "Body");
+        Map<String, Object> request = Map.of("article", Map.of("body", "Now mentions wyverns"));
+        mockMvc.perform(put("/api/articles/" + slug)
+                        .header("Authorization", "Token " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/articles").param("q", "\"wyverns\" NEAR("))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(0)));
+        mockMvc.perform(get("/api/articles").param("q", "wyverns*"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(1)))
+                .andExpect(jsonPath("$.articles[0].snippet").value(containsString("<mark>wyverns</mark>")));
+        mockMvc.perform(get("/api/articles").param("q", "body"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(0)));
+        mockMvc.perform(get("/api/articles").param("q", "\"("))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(0)))
+                .andExpect(jsonPath("$.articlesCount").value(0));
+    }
+
+    @Test
+    @DisplayName("아티클 생성/삭제 시 태그 사용 횟수가 갱신되어 태그 목록 순서에 반영된다")
+    void tagUsageCountsFollowArticles() throws Exception {
+        String first = createTestArticle("First", "Description", "Body", List.of("zeta"));
+        createTestArticle("Second", "Description", "Body", List.of("alpha", "zeta"));
+
+        mockMvc.perform(get("/api/tags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags", contains("zeta", "alpha")));
+
+        mockMvc.perform(delete("/api/articles/" + first)
+                        .header("Authorization", "Token " + authToken))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags", contains("alpha", "zeta")));
+    }
+
+    @Test
+    @DisplayName("다른 프로세스가 id를 예약해도 id_generators의 다음 값부터 아티클/태그 id를 할당한다")
+    void allocatesIdsFromIdGeneratorsTable() throws Exception {
+        Long reserved = jdbcTemplate.queryForObject(
+                "UPDATE id_generators SET next_val = next_val + 100 WHERE name = 'articles' RETURNING next_val",
+                Long.class);
+        Long nextTagId = jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generators WHERE name = 'tags'", Long.class);
+
+        String slug = createTestArticle("Reserved", "Description", "Body", List.of("reserved"));
+
+        assertThat(articleRepository.findBySlug(slug).orElseThrow().getId()).isEqualTo(reserved);
+        assertThat(tagRepository.findByName("reserved").orElseThrow().getId()).isEqualTo(nextTagId);
+    }
+
+    @Test
+    @DisplayName("인증 없이 일괄 등록하면 거부된다")
+    void importArticlesUnauthorized() throws Exception {
+        mockMvc.perform(post("/api/articles/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\":\"t\",\"description\":\"d\",\"body\":\"b\"}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("로그인한 사용자의 목록/상세/피드/댓글 조회는 사용자 엔티티를 조회하지 않는다")
+    void readPathsDoNotLoadCurrentUser() throws Exception {
+        String slug = createTestArticle("Test Article", "Description", "Body");
+        clearInvocations(userService);
+
+        mockMvc.perform(get("/api/articles")
+                        .header("Authorization", "Token " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[0].favorited").value(false));
+        mockMvc.perform(get("/api/articles/" + slug)
+                        .header("Authorization", "Token " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.article.author.following").value(false));
+        mockMvc.perform(get("/api/articles/feed")
+                        .header("Authorization", "Token " + authToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/articles/" + slug + "/comments")
+                        .header("Authorization", "Token " + authToken))
+                .andExpect(status().isOk());
+
+        verify(userService, never()).getUser(any());
+    }
+
     private String createTestArticle(String title, String description, String body) throws Exception {
+        return createTestArticle(title, description, body, List.of());
+    }
+
+    private String createTestArticle(String title, String description, String body, List<String> tagList)
+            throws Exception {
         Map<String, Object> request = new HashMap<>();
         Map<String, Object> article = new HashMap<>();
         article.put("title", title);
         article.put("description", description);
         article.put("body", body);
+        article.put("tagList", tagList);
         request.put("article", article);
 
         String response = mockMvc.perform(post("/api/articles")
@@ -0,0 +1,254 @@
+package io.realworld.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.realworld.api.dto.RegisterRequest;
+import io.realworld.domain.ArticleRepository;
+import io.realworld.domain.EventStreamBroker;
+import io.realworld.domain.TagRepository;
+import io.realworld.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 댓글 컨트롤러 통합 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class CommentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EventStreamBroker eventStreamBroker;
+
+    private String token;
+    private String slug;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        articleRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+
+        token = register("commenter");
+        MvcResult result = mockMvc.perform(post("/api/articles")
+                        .header("Authorization", "Token " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("article",
+                                Map.of("title", "Hot article", "description", "d", "body", "b")))))
+                .andReturn();
+        slug = objectMapper.readTree(result.getResponse().getContentAsString()).get("article").get("slug").asText();
+    }
+
+    @Test
+    @DisplayName("limit 없이 조회하면 전체 댓글을 최신순으로 반환한다")
+    void getAllComments() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            createComment("comment " + i);
+        }
+
+        mockMvc.perform(get("/api/articles/" + slug + "/comments"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments", hasSize(3)))
+                .andExpect(jsonPath("$.comments[0].body").value("comment 3"))
+                .andExpect(jsonPath("$.commentsCount").value(3))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("limit/cursor로 댓글을 중복 없이 끝까지 페이지 단위로 조회할 수 있다")
+    void getCommentsWithCursor() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            createComment("comment " + i);
+        }
+
+        List<String> bodies = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            JsonNode page = objectMapper.readTree(mockMvc.perform(get("/api/articles/" + slug + "/comments")
+                            .param("limit", "2")
+                            .param("cursor", cursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.commentsCount").value(5))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString());
+            page.get("comments").forEach(comment -> bodies.add(comment.get("body").asText()));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+            pages++;
+        }
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(bodies).containsExactly("comment 5", "comment 4", "comment 3", "comment 2", "comment 1");
+    }
+
+    @Test
+    @DisplayName("댓글 작성/삭제 시 댓글 수가 갱신된다")
+    void commentsCountFollowsCreateAndDelete() throws Exception {
+        long id = createComment("first");
+        createComment("second");
+
+        mockMvc.perform(delete("/api/articles/" + slug + "/comments/" + id)
+                        .header("Authorization", "Token " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/articles/" + slug + "/comments").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments", hasSize(1)))
+                .andExpect(jsonPath("$.commentsCount").value(1));
+    }
+
+    @Test
+    @DisplayName("댓글 목록에 조회자의 작성자 팔로우 여부가 반영된다")
+    void getCommentsWithFollowing() throws Exception {
+        createComment("hello");
+        String viewerToken = register("viewer");
+        mockMvc.perform(post("/api/profiles/commenter/follow")
+                        .header("Authorization", "Token " + viewerToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/articles/" + slug + "/comments")
+                        .header("Authorization", "Token " + viewerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].author.username").value("commenter"))
+                .andExpect(jsonPath("$.comments[0].author.following").value(true));
+    }
+
+    @Test
+    @DisplayName("작성자가 아니면 403, 다른 아티클이나 없는 댓글이면 404를 반환하고 댓글 수는 유지된다")
+    void deleteCommentFailures() throws Exception {
+        long id = createComment("keep me");
+        String otherToken = register("other");
+        MvcResult other = mockMvc.perform(post("/api/articles")
+                        .header("Authorization", "Token " + otherToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("article",
+                                Map.of("title", "Other article", "description", "d", "body", "b")))))
+                .andReturn();
+        String otherSlug = objectMapper.readTree(other.getResponse().getContentAsString())
+                .get("article").get("slug").asText();
+
+        mockMvc.perform(delete("/api/articles/" + slug + "/comments/" + id)
+                        .header("Authorization", "Token " + otherToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/articles/" + otherSlug + "/comments/" + id)
+                        .header("Authorization", "Token " + token))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/articles/" + slug + "/comments/" + (id + 1000))
+                        .header("Authorization", "Token " + token))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/articles/" + slug + "/comments").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments", hasSize(1)))
+                .andExpect(jsonPath("$.commentsCount").value(1));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회하면 400을 반환한다")
+    void getCommentsWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/articles/" + slug + "/comments").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 아티클의 댓글 페이지를 조회하면 404를 반환한다")
+    void getCommentsOfMissingArticle() throws Exception {
+        mockMvc.perform(get("/api/articles/missing/comments").param("limit", "10"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("댓글 스트림을 구독하면 SSE 연결이 유지되고 연결이 끝나면 구독 해제된다")
+    void streamComments() throws Exception {
+        Long articleId = articleRepository.findIdBySlug(slug).orElseThrow();
+
+        MvcResult result = mockMvc.perform(get("/api/articles/" + slug + "/comments/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(eventStreamBroker.hasArticleSubscribers(articleId)).isTrue();
+
+        result.getRequest().getAsyncContext().complete();
+        assertThat(eventStreamBroker.hasArticleSubscribers(articleId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 아티클의 댓글 스트림을 구독하면 404를 반환한다")
+    void streamCommentsOfMissingArticle() throws Exception {
+        mockMvc.perform(get("/api/articles/missing/comments/stream"))
+                .andExpect(status().isNotFound());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-5", "101"})
+    @DisplayName("범위를 벗어난 limit으로 댓글 페이지를 조회하면 422 에러가 발생한다")
+    void getCommentsWithInvalidLimit(String limit) throws Exception {
+        mockMvc.perform(get("/api/articles/" + slug + "/comments").param("limit", limit))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors.limit").isArray());
+    }
+
+    private String register(String username) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new RegisterRequest(username, username + "@example.com", "password123"))))
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("user").get("token").asText();
+    }
+
+    private long createComment(String body) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/articles/" + slug + "/comments")
+                        .header("Authorization", "Token " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("comment", Map.of("body", body)))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+}
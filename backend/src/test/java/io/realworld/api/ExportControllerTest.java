@@ -0,0 +1,189 @@
+package io.realworld.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.realworld.api.dto.RegisterRequest;
+import io.realworld.domain.Article;
+import io.realworld.domain.ArticleRepository;
+import io.realworld.domain.Comment;
+import io.realworld.domain.CommentRepository;
+import io.realworld.domain.Favorite;
+import io.realworld.domain.FavoriteRepository;
+import io.realworld.domain.Follow;
+import io.realworld.domain.FollowRepository;
+import io.realworld.domain.Tag;
+import io.realworld.domain.TagRepository;
+import io.realworld.domain.User;
+import io.realworld.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 데이터 내보내기 컨트롤러 통합 테스트
+ */
+@SpringBootTest(properties = {"export.enabled=true", "export.token=" + ExportControllerTest.EXPORT_TOKEN})
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class ExportControllerTest {
+
+    static final String EXPORT_TOKEN = "test-export-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        articleRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+
+        MvcResult result = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new RegisterRequest("reader", "reader@example.com", "password123"))))
+                .andReturn();
+        token = objectMapper.readTree(result.getResponse().getContentAsString()).get("user").get("token").asText();
+        User reader = userRepository.findByUsername("reader").orElseThrow();
+
+        User author = userRepository.save(User.builder()
+                .username("author")
+                .email("author@example.com")
+                .password("password")
+                .build());
+        Tag dragons = tagRepository.save(Tag.builder().name("dragons").build());
+        Tag training = tagRepository.save(Tag.builder().name("training").build());
+
+        Article first = Article.builder()
+                .slug("first")
+                .title("First")
+                .description("Description")
+                .body("Body")
+                .author(author)
+                .build();
+        first.addTag(dragons);
+        first.addTag(training);
+        Article second = Article.builder()
+                .slug("second")
+                .title("Second")
+                .description("Description")
+                .body("Body")
+                .author(author)
+                .build();
+        articleRepository.save(first);
+        articleRepository.save(second);
+
+        commentRepository.save(Comment.builder().body("Nice").article(first).author(reader).build());
+        favoriteRepository.save(new Favorite(reader, first));
+        followRepository.save(new Follow(reader, author));
+    }
+
+    @Test
+    @DisplayName("전체 데이터를 타입별 NDJSON 줄로 내보낸다")
+    void export() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/export")
+                        .header("X-Export-Token", EXPORT_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE + ";charset=UTF-8"))
+                .andReturn();
+
+        List<JsonNode> lines = parseLines(result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+
+        assertThat(lines).extracting(line -> line.get("type").asText())
+                .containsExactly("article", "article", "comment", "favorite", "follow");
+        assertThat(lines.get(0).get("slug").asText()).isEqualTo("first");
+        assertThat(lines.get(0).get("author").asText()).isEqualTo("author");
+        assertThat(lines.get(0).get("tagList")).extracting(JsonNode::asText)
+                .containsExactlyInAnyOrder("dragons", "training");
+        assertThat(lines.get(1).get("tagList")).isEmpty();
+        assertThat(lines.get(2).get("article").asText()).isEqualTo("first");
+        assertThat(lines.get(3).get("username").asText()).isEqualTo("reader");
+        assertThat(lines.get(4).get("following").asText()).isEqualTo("author");
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding에 gzip이 있으면 압축하여 내보낸다")
+    void exportGzip() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/export")
+                        .header("X-Export-Token", EXPORT_TOKEN)
+                        .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andReturn();
+
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            String content = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(parseLines(content)).hasSize(5);
+        }
+    }
+
+    @Test
+    @DisplayName("로그인한 사용자라도 내보내기 토큰이 없으면 거부한다")
+    void exportRequiresExportToken() throws Exception {
+        mockMvc.perform(get("/api/export")
+                        .header("Authorization", "Token " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("내보내기 토큰이 다르면 거부한다")
+    void exportRejectsWrongToken() throws Exception {
+        mockMvc.perform(get("/api/export")
+                        .header("X-Export-Token", "wrong-token"))
+                .andExpect(status().isForbidden());
+    }
+
+    private List<JsonNode> parseLines(String content) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
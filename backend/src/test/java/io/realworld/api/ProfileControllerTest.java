@@ -0,0 +1,151 @@
+package io.realworld.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.realworld.api.dto.RegisterRequest;
+import io.realworld.domain.ArticleRepository;
+import io.realworld.domain.TagRepository;
+import io.realworld.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 프로필 컨트롤러 통합 테스트 (팔로워 2명부터 fan-out-on-read)
+ */
+@SpringBootTest(properties = "feed.fanout-threshold=2")
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class ProfileControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    private String authorToken;
+    private String readerToken;
+    private String otherToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        articleRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+
+        authorToken = register("author");
+        readerToken = register("reader");
+        otherToken = register("other");
+    }
+
+    @Test
+    @DisplayName("팔로우/언팔로우로 작성자가 fan-out 임계값을 오르내려도 임계값 이상일 때 작성한 아티클이 피드에 남는다")
+    void feedKeepsArticlesAcrossFanoutThreshold() throws Exception {
+        follow(readerToken);
+        follow(otherToken);
+        String slug = createArticle("Written while popular");
+
+        // 임계값 이상: 조회 시 합침
+        expectFeed(readerToken, slug);
+
+        // 임계값 미만으로 내려감: 미리 구성된 피드로 전환되며 백필
+        mockMvc.perform(delete("/api/profiles/author/follow")
+                        .header("Authorization", "Token " + otherToken))
+                .andExpect(status().isOk());
+        expectFeed(readerToken, slug);
+        mockMvc.perform(get("/api/articles/feed")
+                        .header("Authorization", "Token " + otherToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", empty()));
+
+        // 다시 임계값 이상: 두 경로에 모두 있어도 한 번만 포함
+        follow(otherToken);
+        expectFeed(readerToken, slug);
+        expectFeed(otherToken, slug);
+    }
+
+    @Test
+    @DisplayName("피드 offset 페이지는 두 경로를 합친 최신순에서 잘라내고, 매우 큰 offset은 빈 페이지를 반환한다")
+    void feedOffsetPaging() throws Exception {
+        follow(readerToken);
+        follow(otherToken);
+        createArticle("Older article");
+        String newer = createArticle("Newer article");
+
+        mockMvc.perform(get("/api/articles/feed").param("limit", "1").param("offset", "0")
+                        .header("Authorization", "Token " + readerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[*].slug", contains(newer)));
+        mockMvc.perform(get("/api/articles/feed").param("limit", "1").param("offset", "1")
+                        .header("Authorization", "Token " + readerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[*].slug", contains("older-article")));
+        mockMvc.perform(get("/api/articles/feed").param("offset", String.valueOf(Integer.MAX_VALUE))
+                        .header("Authorization", "Token " + readerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", empty()));
+    }
+
+    private void follow(String token) throws Exception {
+        mockMvc.perform(post("/api/profiles/author/follow")
+                        .header("Authorization", "Token " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.profile.following").value(true));
+    }
+
+    private void expectFeed(String token, String slug) throws Exception {
+        mockMvc.perform(get("/api/articles/feed")
+                        .header("Authorization", "Token " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[*].slug", contains(slug)))
+                .andExpect(jsonPath("$.articlesCount").value(1));
+    }
+
+    private String createArticle(String title) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/articles")
+                        .header("Authorization", "Token " + authorToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("article",
+                                Map.of("title", title, "description", "d", "body", "b")))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("article").get("slug").asText();
+    }
+
+    private String register(String username) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new RegisterRequest(username, username + "@example.com", "password123"))))
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("user").get("token").asText();
+    }
+}
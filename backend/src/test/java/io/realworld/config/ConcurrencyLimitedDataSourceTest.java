@@ -0,0 +1,89 @@
+package io.realworld.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ConcurrencyLimitedDataSource 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(targetDataSource, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("허가 수만큼 커넥션을 열면 다음 요청은 대기 시간 후 실패하고, 커넥션을 닫으면 다시 열 수 있다")
+    void limitsConcurrentConnections() throws SQLException {
+        // given
+        Connection target = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(target);
+        Connection first = dataSource.getConnection();
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("concurrency limit (1)");
+
+        first.close();
+        verify(target).close();
+        assertThat(dataSource.getActive()).isZero();
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("같은 커넥션을 여러 번 닫아도 허가는 한 번만 반납된다")
+    void releasesPermitOnce() throws SQLException {
+        // given
+        Connection target = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(target);
+        Connection connection = dataSource.getConnection();
+
+        // when
+        connection.close();
+        connection.close();
+
+        // then
+        verify(target, times(2)).close();
+        dataSource.getConnection();
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    @DisplayName("커넥션을 열지 못하면 허가를 반납한다")
+    void releasesPermitWhenTargetFails() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("unable to open database file"));
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("unable to open");
+        assertThat(dataSource.getActive()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package io.realworld.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 읽기/쓰기 풀 분리 시 동시 커넥션 수 제한 통합 테스트 (허가 2개: 쓰기 1개 예약, 읽기 1개)
+ */
+@SpringBootTest(properties = {
+        "sqlite.pools.split=true",
+        "sqlite.concurrency.max-active=2",
+        "sqlite.concurrency.acquire-timeout=200ms"
+})
+@ActiveProfiles("test")
+class SqliteConcurrencyLimitTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) throws IOException {
+        Path database = Files.createTempFile("realworld-concurrency-test", ".db");
+        database.toFile().deleteOnExit();
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tags");
+    }
+
+    @Test
+    @DisplayName("읽기가 읽기 허가를 모두 차지해도 쓰기는 예약된 허가로 바로 실행된다")
+    void readsDoNotStarveWriter() throws Exception {
+        // given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> longRead = CompletableFuture.runAsync(() -> readOnly.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class);
+            reading.countDown();
+            await(release);
+        }));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> readOnly.executeWithoutResult(status ->
+                    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class)))
+                    .hasRootCauseInstanceOf(SQLTransientConnectionException.class);
+            readWrite.executeWithoutResult(status ->
+                    jdbcTemplate.update("INSERT INTO tags (id, name, usage_count) VALUES (1, 'written', 0)"));
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class)).isEqualTo(1);
+        } finally {
+            release.countDown();
+            longRead.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.realworld.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SQLite 읽기/쓰기 커넥션 풀 분리 통합 테스트
+ * 두 풀이 같은 DB를 보아야 하므로 인메모리 DB 대신 임시 파일 DB를 사용한다
+ */
+@SpringBootTest(properties = "sqlite.pools.split=true")
+@ActiveProfiles("test")
+class SqliteDataSourceConfigTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("sqliteReaderDataSource")
+    private HikariDataSource readerDataSource;
+
+    @Autowired
+    @Qualifier("sqliteWriterDataSource")
+    private HikariDataSource writerDataSource;
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) throws IOException {
+        Path database = Files.createTempFile("realworld-pools-test", ".db");
+        database.toFile().deleteOnExit();
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tags");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 읽기 풀을 사용하므로 쓰기가 실패한다")
+    void writeInReadOnlyTransactionFails() {
+        // given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // when & then
+        assertThatThrownBy(() -> readOnly.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO tags (id, name, usage_count) VALUES (1, 'readonly', 0)")))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("readonly");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션에서 커밋한 데이터를 읽기 전용 트랜잭션에서 읽는다")
+    void readOnlyTransactionReadsCommittedWrite() {
+        // given
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // when
+        readWrite.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO tags (id, name, usage_count) VALUES (1, 'written', 0)"));
+        Integer count = readOnly.execute(status ->
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags WHERE name = 'written'", Integer.class));
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(readerDataSource.getPoolName()).isEqualTo(SqliteDataSourceConfig.READER_POOL_NAME);
+        assertThat(writerDataSource.getMaximumPoolSize()).isEqualTo(1);
+    }
+}
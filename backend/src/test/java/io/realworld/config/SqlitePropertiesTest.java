@@ -0,0 +1,38 @@
+package io.realworld.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SqliteProperties 테스트
+ */
+class SqlitePropertiesTest {
+
+    @Test
+    @DisplayName("SQLite 튜닝 설정을 드라이버 커넥션 속성으로 변환한다")
+    void toConnectionProperties() {
+        // given
+        SqliteProperties sqliteProperties = new SqliteProperties();
+        sqliteProperties.setBusyTimeout(Duration.ofSeconds(3));
+        sqliteProperties.setCacheSize(DataSize.ofMegabytes(32));
+        sqliteProperties.setMmapSize(DataSize.ofMegabytes(128));
+
+        // when
+        Properties properties = sqliteProperties.toConnectionProperties();
+
+        // then
+        assertThat(properties.getProperty("journal_mode")).isEqualTo("WAL");
+        assertThat(properties.getProperty("synchronous")).isEqualTo("NORMAL");
+        assertThat(properties.getProperty("busy_timeout")).isEqualTo("3000");
+        assertThat(properties.getProperty("cache_size")).isEqualTo("-32768");
+        assertThat(properties.getProperty("mmap_size")).isEqualTo("134217728");
+        assertThat(properties.getProperty("temp_store")).isEqualTo("MEMORY");
+        assertThat(properties.getProperty("foreign_keys")).isEqualTo("true");
+    }
+}
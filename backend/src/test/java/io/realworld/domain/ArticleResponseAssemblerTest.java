@@ -0,0 +1,155 @@
+package io.realworld.domain;
+
+import io.realworld.api.dto.ArticleResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * ArticleResponseAssembler 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ArticleResponseAssemblerTest {
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private ToggleWriteBehind toggleWriteBehind;
+
+    @InjectMocks
+    private ArticleResponseAssembler articleResponseAssembler;
+
+    private User viewer;
+    private Article firstArticle;
+    private Article secondArticle;
+
+    @BeforeEach
+    void setUp() {
+        viewer = User.builder()
+                .username("viewer")
+                .email("viewer@example.com")
+                .password("password")
+                .build();
+        ReflectionTestUtils.setField(viewer, "id", 1L);
+
+        User firstAuthor = User.builder()
+                .username("first")
+                .email("first@example.com")
+                .password("password")
+                .build();
+        ReflectionTestUtils.setField(firstAuthor, "id", 2L);
+
+        User secondAuthor = User.builder()
+                .username("second")
+                .email("second@example.com")
+                .password("password")
+                .build();
+        ReflectionTestUtils.setField(secondAuthor, "id", 3L);
+
+        firstArticle = Article.builder()
+                .slug("first-article")
+                .title("First")
+                .description("Description")
+                .body("Body")
+                .author(firstAuthor)
+                .build();
+        ReflectionTestUtils.setField(firstArticle, "id", 10L);
+        ReflectionTestUtils.setField(firstArticle, "favoritesCount", 5);
+
+        secondArticle = Article.builder()
+                .slug("second-article")
+                .title("Second")
+                .description("Description")
+                .body("Body")
+                .author(secondAuthor)
+                .build();
+        ReflectionTestUtils.setField(secondArticle, "id", 20L);
+    }
+
+    @Test
+    @DisplayName("페이지의 좋아요/팔로우 정보를 일괄 조회하여 응답을 만든다")
+    void toResponses() {
+        // given
+        when(favoriteRepository.findFavoritedArticleIds(eq(viewer), anyCollection()))
+                .thenReturn(List.of(20L));
+        when(followRepository.findFollowingIds(eq(viewer), anyCollection()))
+                .thenReturn(List.of(2L));
+
+        // when
+        List<ArticleResponse> responses = articleResponseAssembler.toResponses(
+                List.of(firstArticle, secondArticle), viewer);
+
+        // then
+        assertThat(responses).extracting(ArticleResponse::getSlug)
+                .containsExactly("first-article", "second-article");
+        assertThat(responses.get(0).getFavoritesCount()).isEqualTo(5);
+        assertThat(responses.get(0).isFavorited()).isFalse();
+        assertThat(responses.get(0).getAuthor().isFollowing()).isTrue();
+        assertThat(responses.get(1).getFavoritesCount()).isZero();
+        assertThat(responses.get(1).isFavorited()).isTrue();
+        assertThat(responses.get(1).getAuthor().isFollowing()).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB 반영 대기 중인 좋아요/팔로우 요청을 응답에 반영한다")
+    void toResponsesWithPendingToggles() {
+        // given
+        when(favoriteRepository.findFavoritedArticleIds(eq(viewer), anyCollection()))
+                .thenReturn(List.of());
+        when(followRepository.findFollowingIds(eq(viewer), anyCollection()))
+                .thenReturn(List.of(2L));
+        when(toggleWriteBehind.pendingFavorite(1L, 10L)).thenReturn(Optional.of(true));
+        when(toggleWriteBehind.favoritesCountDelta(10L)).thenReturn(1);
+        when(toggleWriteBehind.pendingFollow(1L, 2L)).thenReturn(Optional.of(false));
+
+        // when
+        List<ArticleResponse> responses = articleResponseAssembler.toResponses(List.of(firstArticle), viewer);
+
+        // then
+        assertThat(responses.get(0).isFavorited()).isTrue();
+        assertThat(responses.get(0).getFavoritesCount()).isEqualTo(6);
+        assertThat(responses.get(0).getAuthor().isFollowing()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 좋아요/팔로우 조회 없이 응답을 만든다")
+    void toResponsesWithoutUser() {
+        // when
+        List<ArticleResponse> responses = articleResponseAssembler.toResponses(List.of(firstArticle), null);
+
+        // then
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).isFavorited()).isFalse();
+        assertThat(responses.get(0).getFavoritesCount()).isEqualTo(5);
+        verifyNoInteractions(favoriteRepository, followRepository);
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 쿼리를 실행하지 않는다")
+    void toResponsesEmpty() {
+        // when
+        List<ArticleResponse> responses = articleResponseAssembler.toResponses(List.of(), viewer);
+
+        // then
+        assertThat(responses).isEmpty();
+        verifyNoInteractions(favoriteRepository, followRepository);
+    }
+}
@@ -0,0 +1,45 @@
+package io.realworld.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ArticleSearchQuery 단위 테스트
+ */
+class ArticleSearchQueryTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "dragon|\"dragon\"*",
+        "  how to   train |\"how\"* \"to\"* \"train\"*",
+        "dragon's fire|\"dragon\"* \"s\"* \"fire\"*",
+        "title:dragon OR NEAR(a b)|\"title\"* \"dragon\"* \"OR\"* \"NEAR\"* \"a\"* \"b\"*",
+        "드래곤 길들이기|\"드래곤\"* \"길들이기\"*"
+    })
+    @DisplayName("검색어를 따옴표로 감싼 접두어 단어의 조합으로 변환한다")
+    void toMatchExpression(String query, String expected) {
+        assertThat(ArticleSearchQuery.toMatchExpression(query)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   ", "\"", "*()-:^"})
+    @DisplayName("검색할 단어가 없으면 null을 반환한다")
+    void toMatchExpressionWithoutTerms(String query) {
+        assertThat(ArticleSearchQuery.toMatchExpression(query)).isNull();
+    }
+
+    @Test
+    @DisplayName("단어 수는 최대 개수로 제한된다")
+    void toMatchExpressionLimitsTerms() {
+        String query = "word ".repeat(ArticleSearchQuery.MAX_TERMS + 5);
+
+        String expression = ArticleSearchQuery.toMatchExpression(query);
+
+        assertThat(expression.split(" ")).hasSize(ArticleSearchQuery.MAX_TERMS);
+    }
+}
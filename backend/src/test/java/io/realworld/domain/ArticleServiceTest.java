@@ -7,8 +7,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Arrays;
 import java.util.List;
@@ -17,7 +24,11 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,6 +50,18 @@ class ArticleServiceTest {
     @Mock
     private FavoriteRepository favoriteRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ToggleWriteBehind toggleWriteBehind;
+
+    @Mock
+    private SlugAllocator slugAllocator;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private ArticleService articleService;
 
@@ -71,19 +94,62 @@ class ArticleServiceTest {
         String body = "It takes a Jacobian";
         List<String> tagList = Arrays.asList("dragons", "training");
 
-        when(articleRepository.existsBySlug(anyString())).thenReturn(false);
+        when(slugAllocator.allocate(title)).thenReturn("how-to-train-your-dragon");
         when(articleRepository.save(any(Article.class))).thenReturn(testArticle);
-        when(tagRepository.findByName(anyString())).thenReturn(Optional.empty());
-        when(tagRepository.save(any(Tag.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(tagRepository.findByNameIn(anyCollection())).thenReturn(List.of());
+        when(tagRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         Article created = articleService.createArticle(title, description, body, tagList, testUser);
 
         // then
         verify(articleRepository).save(any(Article.class));
+        verify(eventPublisher).publishEvent(any(ArticleCreatedEvent.class));
         assertThat(created).isNotNull();
     }
 
+    @Test
+    @DisplayName("태그는 한 번에 조회하고 없는 태그만 한 번에 저장한다")
+    void resolveTags() {
+        // given
+        Tag dragons = Tag.builder().name("dragons").build();
+        when(tagRepository.findByNameIn(anyCollection())).thenReturn(List.of(dragons));
+        when(tagRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<Tag> tags = articleService.resolveTags(List.of("training", "dragons", "training", "flying"));
+
+        // then
+        assertThat(tags).extracting(Tag::getName).containsExactly("training", "dragons", "flying");
+        assertThat(tags.get(1)).isSameAs(dragons);
+        verify(tagRepository).saveAll(argThat((List<Tag> saved) -> saved.size() == 2));
+    }
+
+    @Test
+    @DisplayName("일괄 생성 시 slug를 한 번에 할당하고 태그를 한 번에 조회한다")
+    void createArticles() {
+        // given
+        List<ArticleDraft> drafts = List.of(
+                new ArticleDraft("Same title", "d", "b", List.of("dragons")),
+                new ArticleDraft("Same title", "d", "b", List.of("dragons", "training")),
+                new ArticleDraft("Fresh", "d", "b", null));
+        when(slugAllocator.allocateAll(List.of("Same title", "Same title", "Fresh")))
+                .thenReturn(List.of("same-title-2", "same-title-3", "fresh"));
+        when(tagRepository.findByNameIn(anyCollection())).thenReturn(List.of());
+        when(tagRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(articleRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<Article> created = articleService.createArticles(drafts, testUser);
+
+        // then
+        assertThat(created).extracting(Article::getSlug)
+                .containsExactly("same-title-2", "same-title-3", "fresh");
+        assertThat(created.get(1).getTags()).hasSize(2);
+        verify(tagRepository).findByNameIn(anyCollection());
+        verify(eventPublisher).publishEvent(any(ArticlesImportedEvent.class));
+    }
+
     @Test
     @DisplayName("slug로 아티클을 조회할 수 있다")
     void findBySlug() {
@@ -99,6 +165,22 @@ class ArticleServiceTest {
         assertThat(found.getSlug()).isEqualTo(slug);
     }
 
+    @Test
+    @DisplayName("slug로 영속성 컨텍스트와 분리된 아티클 스냅샷을 조회할 수 있다")
+    void findSnapshotBySlug() {
+        // given
+        testArticle.addTag(Tag.builder().name("dragons").build());
+        when(articleRepository.findBySlug("test-article")).thenReturn(Optional.of(testArticle));
+
+        // when
+        ArticleSnapshot snapshot = articleService.findSnapshotBySlug("test-article");
+
+        // then
+        assertThat(snapshot.getSlug()).isEqualTo("test-article");
+        assertThat(snapshot.getTagList()).containsExactly("dragons");
+        assertThat(snapshot.getAuthorUsername()).isEqualTo("testuser");
+    }
+
     @Test
     @DisplayName("존재하지 않는 slug로 조회 시 예외가 발생한다")
     void findBySlugNotFound() {
@@ -158,6 +240,78 @@ class ArticleServiceTest {
         assertThat(found).hasSize(1);
     }
 
+    @Test
+    @DisplayName("태그 필터로 아티클 페이지를 조회할 수 있다")
+    void findArticlesByTag() {
+        // given
+        Pageable pageable = OffsetPageRequest.of(0, 20);
+        when(articleRepository.findSliceByTagName("dragons", pageable))
+                .thenReturn(new SliceImpl<>(List.of(testArticle), pageable, false));
+
+        // when
+        Slice<Article> found = articleService.findArticles("dragons", null, null, pageable);
+
+        // then
+        assertThat(found.getContent()).containsExactly(testArticle);
+        assertThat(found.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("좋아요한 사용자 필터로 전체 아티클 수를 조회할 수 있다")
+    void countArticlesByFavoritedUser() {
+        // given
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(favoriteRepository.countByUser(testUser)).thenReturn(3L);
+
+        // when
+        long count = articleService.countArticles(null, null, "testuser");
+
+        // then
+        assertThat(count).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 작성자로 아티클 페이지 조회 시 예외가 발생한다")
+    void findArticlesByUnknownAuthor() {
+        // given
+        when(userRepository.findByUsername("unknown")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> articleService.findArticles(null, "unknown", null, OffsetPageRequest.of(0, 20)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("아티클 좋아요 시 좋아요 수 컬럼이 함께 증가한다")
+    void favoriteArticleIncrementsCount() {
+        // given
+        when(articleRepository.findBySlug("test-article")).thenReturn(Optional.of(testArticle));
+        when(favoriteRepository.existsByUserAndArticle(testUser, testArticle)).thenReturn(false);
+
+        // when
+        Article favorited = articleService.favoriteArticle("test-article", testUser);
+
+        // then
+        verify(favoriteRepository).save(any(Favorite.class));
+        verify(articleRepository).incrementFavoritesCount(testArticle.getId());
+        assertThat(favorited.getFavoritesCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 아티클의 좋아요 취소는 좋아요 수를 변경하지 않는다")
+    void unfavoriteArticleWithoutFavorite() {
+        // given
+        when(articleRepository.findBySlug("test-article")).thenReturn(Optional.of(testArticle));
+        when(favoriteRepository.findByUserAndArticle(testUser, testArticle)).thenReturn(Optional.empty());
+
+        // when
+        Article unfavorited = articleService.unfavoriteArticle("test-article", testUser);
+
+        // then
+        verify(articleRepository, never()).decrementFavoritesCount(any());
+        assertThat(unfavorited.getFavoritesCount()).isZero();
+    }
+
     @Test
     @DisplayName("아티클 작성자가 아티클을 수정할 수 있다")
     void updateArticle() {
@@ -168,7 +322,7 @@ class ArticleServiceTest {
         String newBody = "Updated Body";
 
         when(articleRepository.findBySlug(slug)).thenReturn(Optional.of(testArticle));
-        when(articleRepository.existsBySlug(anyString())).thenReturn(false);
+        when(slugAllocator.allocate(newTitle)).thenReturn("updated-title");
         when(articleRepository.save(any(Article.class))).thenReturn(testArticle);
 
         // when
@@ -176,6 +330,7 @@ class ArticleServiceTest {
 
         // then
         verify(articleRepository).save(any(Article.class));
+        assertThat(updated.getSlug()).isEqualTo("updated-title");
         assertThat(updated).isNotNull();
     }
 
@@ -208,6 +363,7 @@ class ArticleServiceTest {
         articleService.deleteArticle(slug, testUser);
 
         // then
+        verify(eventPublisher).publishEvent(any(ArticleDeletedEvent.class));
         verify(articleRepository).delete(testArticle);
     }
 
@@ -228,36 +384,4 @@ class ArticleServiceTest {
         assertThatThrownBy(() -> articleService.deleteArticle(slug, otherUser))
                 .isInstanceOf(AccessDeniedException.class);
     }
-
-    @Test
-    @DisplayName("제목에서 slug를 생성할 수 있다")
-    void generateSlug() {
-        // given
-        String title = "How to train your dragon";
-
-        when(articleRepository.existsBySlug(anyString())).thenReturn(false);
-
-        // when
-        String slug = articleService.generateSlug(title);
-
-        // then
-        assertThat(slug).isNotNull();
-        assertThat(slug).matches("[a-z0-9-]+");
-        assertThat(slug).contains("how-to-train-your-dragon");
-    }
-
-    @Test
-    @DisplayName("중복된 slug가 있을 경우 랜덤 접미사를 추가한다")
-    void generateUniqueSlug() {
-        // given
-        String title = "Test Article";
-        when(articleRepository.existsBySlug(anyString())).thenReturn(true, false);
-
-        // when
-        String slug = articleService.generateSlug(title);
-
-        // then
-        assertThat(slug).startsWith("test-article-");
-        assertThat(slug.length()).isGreaterThan("test-article-".length());
-    }
 }
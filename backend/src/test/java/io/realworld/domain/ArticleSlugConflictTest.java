@@ -0,0 +1,106 @@
+package io.realworld.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 아티클 slug 충돌 재시도 통합 테스트
+ * 동시 요청이 같은 slug를 할당한 상황을 재현하려고 첫 할당만 이미 커밋된 slug를 돌려주며,
+ * 충돌한 트랜잭션이 실제로 롤백되고 재시도되어야 하므로 파일 DB에 커밋하고 테스트마다 정리한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ArticleSlugConflictTest {
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoSpyBean
+    private SlugAllocator slugAllocator;
+
+    private User author;
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) throws IOException {
+        Path database = Files.createTempFile("realworld-slug-test", ".db");
+        database.toFile().deleteOnExit();
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+    }
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder()
+                .username("slugauthor")
+                .email("slugauthor@example.com")
+                .password("encodedPassword")
+                .build());
+        articleService.createArticle("Taken", "Description", "Body", List.of(), author);
+    }
+
+    @AfterEach
+    void tearDown() {
+        articleRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("생성 중 slug가 충돌하면 새 트랜잭션에서 slug를 다시 할당한다")
+    void createRetriesOnSlugConflict() {
+        // given
+        clearInvocations(slugAllocator);
+        doReturn("taken").doCallRealMethod().when(slugAllocator).allocate("Taken");
+
+        // when
+        Article created = articleService.createArticle("Taken", "Description", "Body", List.of("dragons"), author);
+
+        // then
+        assertThat(created.getSlug()).isEqualTo("taken-2");
+        verify(slugAllocator, times(2)).allocate("Taken");
+        assertThat(articleRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("수정 중 새 slug가 충돌하면 새 트랜잭션에서 다시 수정한다")
+    void updateRetriesOnSlugConflict() {
+        // given
+        String slug = articleService.createArticle("Other", "Description", "Body", List.of(), author).getSlug();
+        doReturn("taken").doCallRealMethod().when(slugAllocator).allocate("Taken");
+
+        // when
+        Article updated = articleService.updateArticle(slug, "Taken", null, null, author);
+
+        // then
+        assertThat(updated.getSlug()).isEqualTo("taken-2");
+        assertThat(articleRepository.findBySlug("taken-2")).isPresent();
+        assertThat(articleRepository.findBySlug("other")).isEmpty();
+    }
+}
@@ -0,0 +1,118 @@
+package io.realworld.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아티클 스냅샷 캐시 통합 테스트 (Caffeine 캐시 사용)
+ * 캐시 무효화가 커밋 이후에 적용되는지 확인하려면 트랜잭션을 실제로 커밋해야 하므로 롤백 기반 테스트 대신
+ * 파일 DB에 커밋하고 테스트마다 정리한다
+ */
+@SpringBootTest(properties = "spring.cache.type=caffeine")
+@ActiveProfiles("test")
+class ArticleSnapshotCacheTest {
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User author;
+    private String slug;
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) throws IOException {
+        Path database = Files.createTempFile("realworld-cache-test", ".db");
+        database.toFile().deleteOnExit();
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+    }
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder()
+                .username("cacheauthor")
+                .email("cacheauthor@example.com")
+                .password("encodedPassword")
+                .build());
+        slug = articleService.createArticle("Cached article", "Original", "Body", List.of(), author).getSlug();
+    }
+
+    @AfterEach
+    void tearDown() {
+        articleRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    @DisplayName("수정 트랜잭션이 커밋된 뒤에 스냅샷 캐시가 무효화된다")
+    void evictsSnapshotAfterCommit() {
+        // given
+        articleService.findSnapshotBySlug(slug);
+        AtomicReference<Cache.ValueWrapper> cachedBeforeCommit = new AtomicReference<>();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            articleService.updateArticle(slug, null, "Updated", null, author);
+            cachedBeforeCommit.set(snapshotCache().get(slug));
+        });
+
+        // then
+        assertThat(cachedBeforeCommit.get()).isNotNull();
+        assertThat(snapshotCache().get(slug)).isNull();
+        assertThat(articleService.findSnapshotBySlug(slug).getDescription()).isEqualTo("Updated");
+    }
+
+    @Test
+    @DisplayName("수정 트랜잭션이 롤백되면 스냅샷 캐시를 유지한다")
+    void keepsSnapshotAfterRollback() {
+        // given
+        articleService.findSnapshotBySlug(slug);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            articleService.updateArticle(slug, null, "Updated", null, author);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(snapshotCache().get(slug)).isNotNull();
+        assertThat(articleService.findSnapshotBySlug(slug).getDescription()).isEqualTo("Original");
+    }
+
+    private Cache snapshotCache() {
+        return cacheManager.getCache(ArticleSnapshot.CACHE_NAME);
+    }
+}
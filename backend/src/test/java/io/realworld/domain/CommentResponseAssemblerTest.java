@@ -0,0 +1,143 @@
+package io.realworld.domain;
+
+import io.realworld.api.dto.CommentResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * CommentResponseAssembler 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class CommentResponseAssemblerTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private ToggleWriteBehind toggleWriteBehind;
+
+    @InjectMocks
+    private CommentResponseAssembler commentResponseAssembler;
+
+    private User viewer;
+    private User followedAuthor;
+    private User otherAuthor;
+    private Article article;
+
+    @BeforeEach
+    void setUp() {
+        viewer = user("viewer", 1L);
+        followedAuthor = user("followed", 2L);
+        otherAuthor = user("other", 3L);
+        article = Article.builder()
+                .slug("article")
+                .title("Article")
+                .description("Description")
+                .body("Body")
+                .author(viewer)
+                .build();
+    }
+
+    @Test
+    @DisplayName("작성자별 팔로우 여부를 중복 없는 작성자 ID로 한 번에 조회한다")
+    void toResponsesResolvesFollowingInOneQuery() {
+        // given
+        List<Comment> comments = List.of(
+                comment(followedAuthor, "first"),
+                comment(otherAuthor, "second"),
+                comment(followedAuthor, "third"));
+        when(followRepository.findFollowingIds(eq(viewer), eq(Set.of(2L, 3L)))).thenReturn(List.of(2L));
+
+        // when
+        List<CommentResponse> responses = commentResponseAssembler.toResponses(comments, viewer);
+
+        // then
+        assertThat(responses).extracting(CommentResponse::getBody).containsExactly("first", "second", "third");
+        assertThat(responses).extracting(response -> response.getAuthor().isFollowing())
+                .containsExactly(true, false, true);
+        verify(followRepository).findFollowingIds(eq(viewer), eq(Set.of(2L, 3L)));
+    }
+
+    @Test
+    @DisplayName("DB 반영 대기 중인 팔로우 요청을 응답에 반영한다")
+    void toResponsesWithPendingFollow() {
+        // given
+        when(followRepository.findFollowingIds(eq(viewer), eq(Set.of(3L)))).thenReturn(List.of());
+        when(toggleWriteBehind.pendingFollow(1L, 3L)).thenReturn(Optional.of(true));
+
+        // when
+        CommentResponse response = commentResponseAssembler.toResponse(comment(otherAuthor, "body"), viewer);
+
+        // then
+        assertThat(response.getAuthor().isFollowing()).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회자 본인의 댓글만 있으면 팔로우 조회를 생략한다")
+    void toResponseOwnComment() {
+        // when
+        CommentResponse response = commentResponseAssembler.toResponse(comment(viewer, "mine"), viewer);
+
+        // then
+        assertThat(response.getAuthor().isFollowing()).isFalse();
+        verifyNoInteractions(followRepository);
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 팔로우 조회 없이 응답을 만든다")
+    void toResponsesWithoutUser() {
+        // when
+        List<CommentResponse> responses = commentResponseAssembler.toResponses(
+                List.of(comment(followedAuthor, "body")), null);
+
+        // then
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getAuthor().isFollowing()).isFalse();
+        verifyNoInteractions(followRepository);
+    }
+
+    @Test
+    @DisplayName("빈 목록은 쿼리를 실행하지 않는다")
+    void toResponsesEmpty() {
+        // when
+        List<CommentResponse> responses = commentResponseAssembler.toResponses(List.of(), viewer);
+
+        // then
+        assertThat(responses).isEmpty();
+        verifyNoInteractions(followRepository);
+    }
+
+    private User user(String username, Long id) {
+        User user = User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private Comment comment(User author, String body) {
+        return Comment.builder()
+                .body(body)
+                .article(article)
+                .author(author)
+                .build();
+    }
+}
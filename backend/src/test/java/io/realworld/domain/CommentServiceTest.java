@@ -8,8 +8,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +22,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +38,9 @@ class CommentServiceTest {
     @Mock
     private ArticleRepository articleRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -76,7 +85,8 @@ class CommentServiceTest {
         String articleSlug = "test-article";
         String body = "New comment";
 
-        when(articleRepository.findBySlug(articleSlug)).thenReturn(Optional.of(testArticle));
+        when(articleRepository.findIdBySlug(articleSlug)).thenReturn(Optional.of(1L));
+        when(articleRepository.getReferenceById(1L)).thenReturn(testArticle);
         when(commentRepository.save(any(Comment.class))).thenReturn(testComment);
 
         // when
@@ -84,8 +94,11 @@ class CommentServiceTest {
 
         // then
         assertThat(created).isNotNull();
-        verify(articleRepository).findBySlug(articleSlug);
+        verify(articleRepository).findIdBySlug(articleSlug);
+        verify(articleRepository, never()).findBySlug(any());
         verify(commentRepository).save(any(Comment.class));
+        verify(articleRepository).incrementCommentsCount(1L);
+        verify(eventPublisher).publishEvent(any(CommentCreatedEvent.class));
     }
 
     @Test
@@ -95,7 +108,7 @@ class CommentServiceTest {
         String articleSlug = "non-existent";
         String body = "New comment";
 
-        when(articleRepository.findBySlug(articleSlug)).thenReturn(Optional.empty());
+        when(articleRepository.findIdBySlug(articleSlug)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> commentService.createComment(articleSlug, body, testUser))
@@ -110,8 +123,8 @@ class CommentServiceTest {
         String articleSlug = "test-article";
         List<Comment> comments = Arrays.asList(testComment);
 
-        when(articleRepository.findBySlug(articleSlug)).thenReturn(Optional.of(testArticle));
-        when(commentRepository.findByArticleOrderByCreatedAtDesc(testArticle)).thenReturn(comments);
+        when(articleRepository.findIdBySlug(articleSlug)).thenReturn(Optional.of(1L));
+        when(commentRepository.findByArticleId(1L)).thenReturn(comments);
 
         // when
         List<Comment> found = commentService.getCommentsByArticle(articleSlug);
@@ -119,8 +132,8 @@ class CommentServiceTest {
         // then
         assertThat(found).hasSize(1);
         assertThat(found.get(0)).isEqualTo(testComment);
-        verify(articleRepository).findBySlug(articleSlug);
-        verify(commentRepository).findByArticleOrderByCreatedAtDesc(testArticle);
+        verify(articleRepository).findIdBySlug(articleSlug);
+        verify(commentRepository).findByArticleId(1L);
     }
 
     @Test
@@ -129,7 +142,7 @@ class CommentServiceTest {
         // given
         String articleSlug = "non-existent";
 
-        when(articleRepository.findBySlug(articleSlug)).thenReturn(Optional.empty());
+        when(articleRepository.findIdBySlug(articleSlug)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> commentService.getCommentsByArticle(articleSlug))
@@ -137,31 +150,70 @@ class CommentServiceTest {
                 .hasMessageContaining("Article not found");
     }
 
+    @Test
+    @DisplayName("커서 없이 댓글 페이지를 조회하면 첫 페이지를 조회한다")
+    void getCommentsPageFirst() {
+        // given
+        Slice<Comment> page = new SliceImpl<>(List.of(testComment), OffsetPageRequest.of(0, 10), true);
+        when(commentRepository.findSliceByArticleId(1L, OffsetPageRequest.of(0, 10))).thenReturn(page);
+
+        // when
+        Slice<Comment> found = commentService.getCommentsByArticle(1L, null, 10);
+
+        // then
+        assertThat(found.getContent()).containsExactly(testComment);
+        assertThat(found.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 커서 위치 이후의 댓글 페이지를 조회한다")
+    void getCommentsPageWithCursor() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        SeekCursor cursor = SeekCursor.decode(SeekCursor.of(createdAt, 7L).encode());
+
+        when(commentRepository.findSliceByArticleIdBefore(1L, createdAt, 7L, OffsetPageRequest.of(0, 10)))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        // when
+        Slice<Comment> found = commentService.getCommentsByArticle(1L, cursor, 10);
+
+        // then
+        assertThat(found.getContent()).isEmpty();
+        verify(commentRepository, never()).findSliceByArticleId(any(), any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 아티클의 댓글 수 조회 시 예외가 발생한다")
+    void countCommentsByArticleNotFound() {
+        // given
+        when(articleRepository.findCommentsCountById(99L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> commentService.countCommentsByArticle(99L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Article not found");
+    }
+
     @Test
     @DisplayName("댓글 작성자가 댓글을 삭제할 수 있다")
     void deleteCommentSuccess() {
         // given
         String articleSlug = "test-article";
         Long commentId = 1L;
+        ReflectionTestUtils.setField(testUser, "id", 1L);
 
-        // Mock 객체로 ID 설정
-        Article mockArticle = org.mockito.Mockito.mock(Article.class);
-        Comment mockComment = org.mockito.Mockito.mock(Comment.class);
-        User mockUser = org.mockito.Mockito.mock(User.class);
-
-        when(mockArticle.getId()).thenReturn(1L);
-        when(mockComment.getArticle()).thenReturn(mockArticle);
-        when(mockComment.getAuthor()).thenReturn(mockUser);
-        when(mockUser.getId()).thenReturn(1L);
-
-        when(articleRepository.findBySlug(articleSlug)).thenReturn(Optional.of(mockArticle));
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(mockComment));
+        when(articleRepository.findIdBySlug(articleSlug)).thenReturn(Optional.of(10L));
+        when(commentRepository.deleteByIdAndArticleIdAndAuthorId(commentId, 10L, 1L)).thenReturn(1);
 
         // when
-        commentService.deleteComment(articleSlug, commentId, mockUser);
+        commentService.deleteComment(articleSlug, commentId, testUser);
 
         // then
-        verify(commentRepository).delete(mockComment);
+        verify(commentRepository).deleteByIdAndArticleIdAndAuthorId(commentId, 10L, 1L);
+        verify(commentRepository, never()).findArticleIdById(any());
+        verify(articleRepository).decrementCommentsCount(10L);
+        verify(eventPublisher).publishEvent(any(CommentDeletedEvent.class));
     }
 
     @Test
@@ -171,7 +223,7 @@ class CommentServiceTest {
         String articleSlug = "non-existent";
         Long commentId = 1L;
 
-        when(articleRepository.findBySlug(articleSlug)).thenReturn(Optional.empty());
+        when(articleRepository.findIdBySlug(articleSlug)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> commentService.deleteComment(articleSlug, commentId, testUser))
@@ -185,14 +237,17 @@ class CommentServiceTest {
         // given
         String articleSlug = "test-article";
         Long commentId = 999L;
+        ReflectionTestUtils.setField(testUser, "id", 1L);
 
-        when(articleRepository.findBySlug(articleSlug)).thenReturn(Optional.of(testArticle));
-        when(commentRepository.findById(commentId)).thenReturn(Optional.empty());
+        when(articleRepository.findIdBySlug(articleSlug)).thenReturn(Optional.of(10L));
+        when(commentRepository.deleteByIdAndArticleIdAndAuthorId(commentId, 10L, 1L)).thenReturn(0);
+        when(commentRepository.findArticleIdById(commentId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> commentService.deleteComment(articleSlug, commentId, testUser))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Comment not found");
+        verify(articleRepository, never()).decrementCommentsCount(any());
     }
 
     @Test
@@ -201,25 +256,17 @@ class CommentServiceTest {
         // given
         String articleSlug = "test-article";
         Long commentId = 1L;
+        ReflectionTestUtils.setField(otherUser, "id", 2L);
 
-        // Mock으로 ID 설정
-        Article mockArticle = org.mockito.Mockito.mock(Article.class);
-        Comment mockComment = org.mockito.Mockito.mock(Comment.class);
-        User mockAuthor = org.mockito.Mockito.mock(User.class);
-        User mockOtherUser = org.mockito.Mockito.mock(User.class);
-
-        when(mockArticle.getId()).thenReturn(1L);
-        when(mockAuthor.getId()).thenReturn(1L);
-        when(mockOtherUser.getId()).thenReturn(2L);
-        when(mockComment.getArticle()).thenReturn(mockArticle);
-        when(mockComment.getAuthor()).thenReturn(mockAuthor);
-
-        when(articleRepository.findBySlug(articleSlug)).thenReturn(Optional.of(mockArticle));
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(mockComment));
+        when(articleRepository.findIdBySlug(articleSlug)).thenReturn(Optional.of(10L));
+        when(commentRepository.deleteByIdAndArticleIdAndAuthorId(commentId, 10L, 2L)).thenReturn(0);
+        when(commentRepository.findArticleIdById(commentId)).thenReturn(Optional.of(10L));
 
         // when & then
-        assertThatThrownBy(() -> commentService.deleteComment(articleSlug, commentId, mockOtherUser))
+        assertThatThrownBy(() -> commentService.deleteComment(articleSlug, commentId, otherUser))
                 .isInstanceOf(AccessDeniedException.class);
+        verify(articleRepository, never()).decrementCommentsCount(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -228,26 +275,11 @@ class CommentServiceTest {
         // given
         String articleSlug = "other-article";
         Long commentId = 1L;
+        ReflectionTestUtils.setField(testUser, "id", 1L);
 
-        Article otherArticle = Article.builder()
-                .slug("other-article")
-                .title("Other Article")
-                .description("Other Description")
-                .body("Other Body")
-                .author(otherUser)
-                .build();
-
-        // Mock ID 설정
-        Article mockArticle = org.mockito.Mockito.mock(Article.class);
-        Article mockOtherArticle = org.mockito.Mockito.mock(Article.class);
-        Comment mockComment = org.mockito.Mockito.mock(Comment.class);
-
-        when(mockArticle.getId()).thenReturn(1L);
-        when(mockOtherArticle.getId()).thenReturn(2L);
-        when(mockComment.getArticle()).thenReturn(mockArticle);
-
-        when(articleRepository.findBySlug(articleSlug)).thenReturn(Optional.of(mockOtherArticle));
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(mockComment));
+        when(articleRepository.findIdBySlug(articleSlug)).thenReturn(Optional.of(20L));
+        when(commentRepository.deleteByIdAndArticleIdAndAuthorId(commentId, 20L, 1L)).thenReturn(0);
+        when(commentRepository.findArticleIdById(commentId)).thenReturn(Optional.of(10L));
 
         // when & then
         assertThatThrownBy(() -> commentService.deleteComment(articleSlug, commentId, testUser))
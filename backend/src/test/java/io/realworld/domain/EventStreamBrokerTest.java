@@ -0,0 +1,216 @@
+package io.realworld.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EventStreamBroker 단위 테스트
+ */
+class EventStreamBrokerTest {
+
+    private static final int BUFFER_SIZE = 2;
+
+    private EventStreamBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        broker = new EventStreamBroker(BUFFER_SIZE, Duration.ofMinutes(1), 1, 8, new StandardEnvironment());
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.shutdown();
+    }
+
+    @Test
+    @DisplayName("아티클 구독자에게만 이벤트를 전달하고 구독자별로 다른 이벤트를 보낼 수 있다")
+    void publishToArticleSubscribers() throws InterruptedException {
+        // given
+        RecordingEmitter anonymous = new RecordingEmitter();
+        RecordingEmitter follower = new RecordingEmitter();
+        RecordingEmitter otherArticle = new RecordingEmitter();
+        broker.subscribeArticle(1L, null, anonymous);
+        broker.subscribeArticle(1L, 10L, follower);
+        broker.subscribeArticle(2L, 20L, otherArticle);
+
+        // when
+        broker.publishToArticle(1L,
+                userId -> new StreamEvent("comment-created", userId != null ? "followed" : "plain"));
+
+        // then
+        anonymous.awaitEvents(1);
+        follower.awaitEvents(1);
+        assertThat(anonymous.events).containsExactly("event:comment-created|data:|plain");
+        assertThat(follower.events).containsExactly("event:comment-created|data:|followed");
+        assertThat(otherArticle.events).isEmpty();
+        assertThat(broker.articleSubscriberUserIds(1L)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("피드 이벤트는 지정한 사용자의 구독자에게만 전달한다")
+    void publishToFeedSubscribers() throws InterruptedException {
+        // given
+        RecordingEmitter follower = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        broker.subscribeFeed(10L, follower);
+        broker.subscribeFeed(20L, other);
+
+        // when
+        broker.publishToFeed(List.of(10L, 30L), new StreamEvent("article-created", "article"));
+
+        // then
+        follower.awaitEvents(1);
+        assertThat(follower.events).containsExactly("event:article-created|data:|article");
+        assertThat(other.events).isEmpty();
+        assertThat(broker.feedSubscriberIds()).containsExactlyInAnyOrder(10L, 20L);
+    }
+
+    @Test
+    @DisplayName("heartbeat는 모든 구독자에게 SSE 주석으로 전송된다")
+    void heartbeatReachesAllSubscribers() throws InterruptedException {
+        // given
+        RecordingEmitter article = new RecordingEmitter();
+        RecordingEmitter feed = new RecordingEmitter();
+        broker.subscribeArticle(1L, null, article);
+        broker.subscribeFeed(10L, feed);
+
+        // when
+        broker.heartbeat();
+
+        // then
+        article.awaitEvents(1);
+        feed.awaitEvents(1);
+        assertThat(article.events).containsExactly(":heartbeat");
+        assertThat(feed.events).containsExactly(":heartbeat");
+    }
+
+    @Test
+    @DisplayName("전송 대기 이벤트가 버퍼를 넘는 느린 구독자는 발행을 막지 않고 연결을 끊어 구독 해제한다")
+    void slowSubscriberIsDropped() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        broker.subscribeArticle(1L, 10L, slow);
+        broker.publishToArticle(1L, new StreamEvent("comment-created", "first"));
+        assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        for (int i = 0; i < BUFFER_SIZE; i++) {
+            broker.publishToArticle(1L, new StreamEvent("comment-created", "queued"));
+        }
+        boolean subscribedWhileBuffered = broker.hasArticleSubscribers(1L);
+        broker.publishToArticle(1L, new StreamEvent("comment-created", "overflow"));
+        release.countDown();
+
+        // then
+        assertThat(subscribedWhileBuffered).isTrue();
+        assertThat(slow.completed).isTrue();
+        assertThat(broker.hasArticleSubscribers(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("느린 구독자들의 전송이 막혀 있어도 다른 구독자에게는 전달된다")
+    void slowSubscribersDoNotBlockOthers() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter firstSlow = new RecordingEmitter(release);
+        RecordingEmitter secondSlow = new RecordingEmitter(release);
+        broker.subscribeArticle(1L, 10L, firstSlow);
+        broker.subscribeArticle(1L, 20L, secondSlow);
+        broker.publishToArticle(1L, new StreamEvent("comment-created", "first"));
+        assertThat(firstSlow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(secondSlow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        RecordingEmitter fast = new RecordingEmitter();
+        broker.subscribeArticle(1L, 30L, fast);
+
+        // when
+        broker.publishToArticle(1L, new StreamEvent("comment-created", "second"));
+
+        // then
+        fast.awaitEvents(1);
+        assertThat(fast.events).containsExactly("event:comment-created|data:|second");
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("연결이 끊겨 전송에 실패한 구독자는 구독 해제한다")
+    void failedSubscriberIsRemoved() throws InterruptedException {
+        // given
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.failing = true;
+        broker.subscribeArticle(1L, 10L, broken);
+
+        // when
+        broker.publishToArticle(1L, new StreamEvent("comment-deleted", "gone"));
+
+        // then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broker.hasArticleSubscribers(1L) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(broker.hasArticleSubscribers(1L)).isFalse();
+    }
+
+    /**
+     * 전송한 이벤트를 기록하는 emitter (release가 있으면 첫 전송을 release까지 붙잡아 느린 구독자를 흉내낸다)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private volatile boolean completed;
+        private volatile boolean failing;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            sending.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StringBuilder rendered = new StringBuilder();
+            builder.build().forEach(part -> rendered.append(part.getData().toString().strip().replace('\n', '|'))
+                    .append('|'));
+            events.add(rendered.toString().replaceAll("\\|+$", ""));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(events).hasSizeGreaterThanOrEqualTo(count);
+        }
+    }
+}
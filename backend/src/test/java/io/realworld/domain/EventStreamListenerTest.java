@@ -0,0 +1,87 @@
+package io.realworld.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EventStreamListener 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class EventStreamListenerTest {
+
+    @Mock
+    private EventStreamBroker eventStreamBroker;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private ArticleService articleService;
+
+    @Mock
+    private ToggleWriteBehind toggleWriteBehind;
+
+    private EventStreamListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new EventStreamListener(
+                eventStreamBroker, commentRepository, followRepository, articleService, toggleWriteBehind);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.shutdown();
+    }
+
+    @Test
+    @DisplayName("댓글 생성 이벤트 처리가 늦어져도 뒤이은 삭제 이벤트는 생성 이벤트 다음에 전달된다")
+    void deliversCommentEventsInCommitOrder() {
+        // given
+        User author = User.builder().username("author").email("author@example.com").password("password").build();
+        ReflectionTestUtils.setField(author, "id", 2L);
+        Comment comment = Comment.builder().body("soon deleted").author(author).build();
+        ReflectionTestUtils.setField(comment, "id", 10L);
+        CountDownLatch slowQuery = new CountDownLatch(1);
+        when(eventStreamBroker.hasArticleSubscribers(1L)).thenReturn(true);
+        when(eventStreamBroker.articleSubscriberUserIds(1L)).thenReturn(new HashSet<>());
+        when(commentRepository.findWithAuthorById(10L)).thenAnswer(invocation -> {
+            slowQuery.await(5, TimeUnit.SECONDS);
+            return Optional.of(comment);
+        });
+
+        // when
+        listener.onCommentCreated(new CommentCreatedEvent(1L, 10L, 2L));
+        listener.onCommentDeleted(new CommentDeletedEvent(1L, 10L));
+        slowQuery.countDown();
+
+        // then
+        verify(eventStreamBroker, timeout(5000)).publishToArticle(eq(1L), any(StreamEvent.class));
+        InOrder inOrder = inOrder(eventStreamBroker);
+        inOrder.verify(eventStreamBroker).publishToArticle(eq(1L), any(Function.class));
+        inOrder.verify(eventStreamBroker).publishToArticle(eq(1L), any(StreamEvent.class));
+    }
+}
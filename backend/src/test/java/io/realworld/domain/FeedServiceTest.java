@@ -0,0 +1,236 @@
+package io.realworld.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * FeedService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class FeedServiceTest {
+
+    private static final int FANOUT_THRESHOLD = 100;
+
+    @Mock
+    private FeedEntryRepository feedEntryRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private FeedService feedService;
+
+    private User reader;
+    private User author;
+    private User celebrity;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feedService, "fanoutThreshold", FANOUT_THRESHOLD);
+
+        reader = createUser(1L, "reader", 0);
+        author = createUser(2L, "author", 10);
+        celebrity = createUser(3L, "celebrity", FANOUT_THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("offset 페이지는 DB에서 합친 ID 순서대로 요청한 페이지의 아티클만 로드한다")
+    void findFeedLoadsPageInIdOrder() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Article first = createArticle(10L, author, now.minusMinutes(1));
+        Article second = createArticle(11L, celebrity, now.minusMinutes(2));
+
+        when(articleRepository.findFeedIds(reader.getId(), FANOUT_THRESHOLD, 5L, 3, 2L))
+                .thenReturn(List.of(11L, 10L, 12L));
+        when(articleRepository.findAllWithAuthorByIdIn(List.of(11L, 10L)))
+                .thenReturn(List.of(first, second));
+
+        // when
+        Slice<Article> feed = feedService.findFeed(reader, OffsetPageRequest.of(2, 2));
+
+        // then
+        assertThat(feed.getContent()).containsExactly(second, first);
+        assertThat(feed.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("offset이 매우 커도 long으로 계산하여 빈 페이지를 반환한다")
+    void findFeedWithHugeOffset() {
+        // given
+        long offset = Integer.MAX_VALUE;
+        when(articleRepository.findFeedIds(reader.getId(), FANOUT_THRESHOLD, offset + 21, 21, offset))
+                .thenReturn(List.of());
+
+        // when
+        Slice<Article> feed = feedService.findFeed(reader, OffsetPageRequest.of(offset, 20));
+
+        // then
+        assertThat(feed.getContent()).isEmpty();
+        assertThat(feed.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서 페이지는 미리 구성된 피드와 fan-out-on-read 작성자의 아티클을 최신순으로 합친다")
+    void findFeedAfterCursorMergesNewestFirst() {
+        // given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Article first = createArticle(10L, author, now.minusMinutes(1));
+        Article second = createArticle(11L, celebrity, now.minusMinutes(2));
+        Article third = createArticle(12L, author, now.minusMinutes(3));
+        Pageable head = OffsetPageRequest.of(0, 3);
+
+        when(feedEntryRepository.findArticlesByUserBefore(reader, now, 9L, head))
+                .thenReturn(new SliceImpl<>(List.of(first, third)));
+        when(articleRepository.findSliceByFanoutOnReadAuthorsBefore(reader, FANOUT_THRESHOLD, now, 9L, head))
+                .thenReturn(new SliceImpl<>(List.of(second)));
+
+        // when
+        Slice<Article> feed = feedService.findFeed(reader, SeekCursor.of(now, 9L), 2);
+
+        // then
+        assertThat(feed.getContent()).containsExactly(first, second);
+        assertThat(feed.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 페이지에서 두 경로에 중복된 아티클은 한 번만 포함한다")
+    void findFeedAfterCursorDeduplicates() {
+        // given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Article article = createArticle(10L, celebrity, now.minusMinutes(1));
+        Pageable head = OffsetPageRequest.of(0, 21);
+
+        when(feedEntryRepository.findArticlesByUserBefore(reader, now, 9L, head))
+                .thenReturn(new SliceImpl<>(List.of(article)));
+        when(articleRepository.findSliceByFanoutOnReadAuthorsBefore(reader, FANOUT_THRESHOLD, now, 9L, head))
+                .thenReturn(new SliceImpl<>(List.of(article)));
+
+        // when
+        Slice<Article> feed = feedService.findFeed(reader, SeekCursor.of(now, 9L), 20);
+
+        // then
+        assertThat(feed.getContent()).containsExactly(article);
+        assertThat(feed.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 임계값 미만인 작성자의 아티클은 팔로워 피드에 추가된다")
+    void fanOut() {
+        // given
+        when(userRepository.findById(author.getId())).thenReturn(Optional.of(author));
+
+        // when
+        feedService.fanOut(10L, author.getId());
+
+        // then
+        verify(feedEntryRepository).fanOut(10L);
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 임계값 이상인 작성자의 아티클은 fan-out하지 않는다")
+    void fanOutSkipsCelebrity() {
+        // given
+        when(userRepository.findById(celebrity.getId())).thenReturn(Optional.of(celebrity));
+
+        // when
+        feedService.fanOut(10L, celebrity.getId());
+
+        // then
+        verify(feedEntryRepository, never()).fanOut(any());
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 임계값 이상인 작성자를 팔로우하면 백필하지 않는다")
+    void onFollowSkipsCelebrity() {
+        // when
+        feedService.onFollow(reader, celebrity);
+
+        // then
+        verify(feedEntryRepository, never()).backfill(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("일반 작성자를 팔로우하면 기존 아티클을 피드에 백필한다")
+    void onFollowBackfills() {
+        // when
+        feedService.onFollow(reader, author);
+
+        // then
+        verify(feedEntryRepository).backfill(eq(reader.getId()), eq(author.getId()));
+    }
+
+    @Test
+    @DisplayName("언팔로우로 팔로워 수가 임계값 아래로 내려가면 남은 팔로워 피드에 작성자의 아티클을 백필한다")
+    void onUnfollowBackfillsWhenDroppingBelowThreshold() {
+        // given
+        ReflectionTestUtils.setField(celebrity, "followersCount", FANOUT_THRESHOLD - 1);
+
+        // when
+        feedService.onUnfollow(reader, celebrity);
+
+        // then
+        verify(feedEntryRepository).deleteByUserIdAndAuthorId(reader.getId(), celebrity.getId());
+        verify(feedEntryRepository).backfillFollowers(celebrity.getId());
+    }
+
+    @Test
+    @DisplayName("언팔로우 후에도 임계값 이상이거나 이미 임계값 미만이던 작성자는 백필하지 않는다")
+    void onUnfollowSkipsBackfillWithoutCrossing() {
+        // when
+        feedService.onUnfollow(reader, celebrity);
+        feedService.onUnfollow(reader, author);
+
+        // then
+        verify(feedEntryRepository, never()).backfillFollowers(anyLong());
+    }
+
+    private User createUser(Long id, String username, int followersCount) {
+        User user = User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        ReflectionTestUtils.setField(user, "followersCount", followersCount);
+        return user;
+    }
+
+    private Article createArticle(Long id, User articleAuthor, LocalDateTime createdAt) {
+        Article article = Article.builder()
+                .slug("article-" + id)
+                .title("Article " + id)
+                .description("Description")
+                .body("Body")
+                .author(articleAuthor)
+                .build();
+        ReflectionTestUtils.setField(article, "id", id);
+        ReflectionTestUtils.setField(article, "createdAt", createdAt);
+        return article;
+    }
+}
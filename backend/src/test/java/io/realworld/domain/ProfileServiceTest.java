@@ -30,6 +30,12 @@ class ProfileServiceTest {
     @Mock
     private FollowRepository followRepository;
 
+    @Mock
+    private FeedService feedService;
+
+    @Mock
+    private ToggleWriteBehind toggleWriteBehind;
+
     @InjectMocks
     private ProfileService profileService;
 
@@ -101,6 +107,8 @@ class ProfileServiceTest {
         // then
         assertThat(result).isEqualTo(following);
         verify(followRepository).save(any(Follow.class));
+        verify(userRepository).incrementFollowersCount(following.getId());
+        verify(feedService).onFollow(follower, following);
     }
 
     @Test
@@ -151,6 +159,8 @@ class ProfileServiceTest {
         // then
         assertThat(result).isEqualTo(following);
         verify(followRepository).delete(mockFollow);
+        verify(userRepository).decrementFollowersCount(following.getId());
+        verify(feedService).onUnfollow(follower, following);
     }
 
     @Test
@@ -0,0 +1,163 @@
+package io.realworld.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SlugAllocator 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SlugAllocatorTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @InjectMocks
+    private SlugAllocator slugAllocator;
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "How to train your dragon|how-to-train-your-dragon",
+        "  Leading and trailing  |leading-and-trailing",
+        "a - b -- c|a-b-c",
+        "Ünïcödé títle|unicode-title",
+        "What's new? (2024)|whats-new-2024",
+        "snake_case stays|snake_case-stays",
+        "-dashes-|dashes"
+    })
+    @DisplayName("제목을 URL-friendly slug로 변환한다")
+    void toSlug(String title, String expected) {
+        assertThat(SlugAllocator.toSlug(title)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("기본 slug가 사용 중이 아니면 그대로 할당한다")
+    void allocateBase() {
+        // given
+        when(articleRepository.findSlugsWithBase("test-article", "test-article-", "test-article."))
+                .thenReturn(List.of("test-article-guide"));
+
+        // when
+        String slug = slugAllocator.allocate("Test Article");
+
+        // then
+        assertThat(slug).isEqualTo("test-article");
+    }
+
+    @Test
+    @DisplayName("기본 slug가 사용 중이면 가장 큰 숫자 접미사 다음 값을 붙인다")
+    void allocateNextSuffix() {
+        // given
+        when(articleRepository.findSlugsWithBase("test-article", "test-article-", "test-article."))
+                .thenReturn(List.of("test-article", "test-article-2", "test-article-7", "test-article-x1y2z3"));
+
+        // when
+        String slug = slugAllocator.allocate("Test Article");
+
+        // then
+        assertThat(slug).isEqualTo("test-article-8");
+    }
+
+    @Test
+    @DisplayName("첫 중복에는 -2 접미사를 붙인다")
+    void allocateFirstSuffix() {
+        // given
+        when(articleRepository.findSlugsWithBase("test-article", "test-article-", "test-article."))
+                .thenReturn(List.of("test-article"));
+
+        // when
+        String slug = slugAllocator.allocate("Test Article");
+
+        // then
+        assertThat(slug).isEqualTo("test-article-2");
+    }
+
+    @Test
+    @DisplayName("숫자 접미사가 9자리를 넘어도 다음 값을 붙인다")
+    void allocateSuffixBeyondNineDigits() {
+        // given
+        when(articleRepository.findSlugsWithBase("test-article", "test-article-", "test-article."))
+                .thenReturn(List.of("test-article", "test-article-999999999", "test-article-1000000000"));
+
+        // when
+        String slug = slugAllocator.allocate("Test Article");
+
+        // then
+        assertThat(slug).isEqualTo("test-article-1000000001");
+    }
+
+    @Test
+    @DisplayName("숫자 접미사가 상한에 도달하면 사용 중이 아닌 랜덤 접미사를 붙인다")
+    void allocateRandomSuffixOnOverflow() {
+        // given
+        List<String> taken = List.of("test-article", "test-article-999999999999999999",
+                "test-article-99999999999999999999");
+        when(articleRepository.findSlugsWithBase("test-article", "test-article-", "test-article."))
+                .thenReturn(taken);
+
+        // when
+        String slug = slugAllocator.allocate("Test Article");
+
+        // then
+        assertThat(slug).matches("test-article-[a-z0-9]{8}").isNotIn(taken);
+    }
+
+    @Test
+    @DisplayName("일괄 할당 시 숫자 접미사가 상한에 도달하면 랜덤 접미사를 붙인다")
+    void allocateAllRandomSuffixOnOverflow() {
+        // given
+        when(articleRepository.findExistingSlugs(anyCollection())).thenReturn(List.of("same-title"));
+        when(articleRepository.findSlugsWithBase("same-title", "same-title-", "same-title."))
+                .thenReturn(List.of("same-title", "same-title-999999999999999999"));
+
+        // when
+        List<String> slugs = slugAllocator.allocateAll(List.of("Same title", "Same title"));
+
+        // then
+        assertThat(slugs).allMatch(slug -> slug.matches("same-title-[a-z0-9]{8}")).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("일괄 할당 시 기존 slug와 입력 내 중복에 순서대로 접미사를 붙인다")
+    void allocateAll() {
+        // given
+        when(articleRepository.findExistingSlugs(anyCollection())).thenReturn(List.of("same-title"));
+        when(articleRepository.findSlugsWithBase("same-title", "same-title-", "same-title."))
+                .thenReturn(List.of("same-title", "same-title-2"));
+
+        // when
+        List<String> slugs = slugAllocator.allocateAll(List.of("Same title", "Fresh", "Same title", "Fresh"));
+
+        // then
+        assertThat(slugs).containsExactly("same-title-3", "fresh", "same-title-4", "fresh-2");
+    }
+
+    @Test
+    @DisplayName("일괄 할당 시 중복이 없으면 접미사 조회를 하지 않는다")
+    void allocateAllWithoutCollision() {
+        // given
+        when(articleRepository.findExistingSlugs(Set.of("first", "second"))).thenReturn(List.of());
+
+        // when
+        List<String> slugs = slugAllocator.allocateAll(List.of("First", "Second"));
+
+        // then
+        assertThat(slugs).containsExactly("first", "second");
+        verify(articleRepository, never()).findSlugsWithBase("first", "first-", "first.");
+    }
+}
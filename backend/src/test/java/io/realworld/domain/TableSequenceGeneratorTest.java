@@ -0,0 +1,104 @@
+package io.realworld.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TableSequenceGenerator 통합 테스트 (tags 행, allocationSize 50)
+ * 커밋/롤백 시점의 id_generators 값을 확인해야 하므로 롤백 기반 테스트 대신 파일 DB에 커밋하고 테스트마다 정리한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TableSequenceGeneratorTest {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long start;
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) throws IOException {
+        Path database = Files.createTempFile("realworld-sequence-test", ".db");
+        database.toFile().deleteOnExit();
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+    }
+
+    @BeforeEach
+    void setUp() {
+        start = nextVal();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 allocationSize만큼 예약하고 커밋 직전에 쓰지 않은 id를 반납한다")
+    void reservesAndReleasesAtCommit() {
+        // given
+        AtomicLong reserved = new AtomicLong();
+
+        // when
+        List<Tag> saved = transactionTemplate.execute(status -> {
+            List<Tag> tags = tagRepository.saveAllAndFlush(List.of(
+                    Tag.builder().name("first").build(),
+                    Tag.builder().name("second").build()));
+            reserved.set(nextVal());
+            return tags;
+        });
+
+        // then
+        assertThat(saved).extracting(Tag::getId).containsExactly(start, start + 1);
+        assertThat(reserved.get()).isEqualTo(start + ALLOCATION_SIZE);
+        assertThat(nextVal()).isEqualTo(start + 2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 예약도 함께 롤백되어 같은 id를 다시 할당한다")
+    void rollbackDiscardsReservation() {
+        // when
+        Long rolledBackId = transactionTemplate.execute(status -> {
+            Tag tag = tagRepository.saveAndFlush(Tag.builder().name("rolled-back").build());
+            status.setRollbackOnly();
+            return tag.getId();
+        });
+        Tag committed = transactionTemplate.execute(status ->
+                tagRepository.save(Tag.builder().name("committed").build()));
+
+        // then
+        assertThat(rolledBackId).isEqualTo(start);
+        assertThat(committed.getId()).isEqualTo(start);
+        assertThat(nextVal()).isEqualTo(start + 1);
+        assertThat(tagRepository.findAll()).extracting(Tag::getName).containsExactly("committed");
+    }
+
+    private long nextVal() {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM id_generators WHERE name = 'tags'", Long.class);
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -108,33 +109,43 @@ class TagServiceTest {
     }
 
     @Test
-    @DisplayName("인기 태그를 조회할 수 있다")
+    @DisplayName("인기 태그를 설정된 개수만큼 사용 횟수순으로 조회할 수 있다")
     void findPopularTagsSuccess() {
         // given
-        List<Tag> popularTags = Arrays.asList(tag1, tag2);
-
-        when(tagRepository.findPopularTags()).thenReturn(popularTags);
+        ReflectionTestUtils.setField(tagService, "popularLimit", 2);
+        when(tagRepository.findPopularTagNames(OffsetPageRequest.of(0, 2)))
+                .thenReturn(List.of("dragons", "training"));
 
         // when
-        List<String> result = tagService.findPopularTags();
+        PopularTags result = tagService.findPopularTags();
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result).containsExactly("dragons", "training");
-        verify(tagRepository).findPopularTags();
+        assertThat(result.getTags()).containsExactly("dragons", "training");
+        assertThat(result.getEtag()).startsWith("\"").endsWith("\"");
+        verify(tagRepository).findPopularTagNames(OffsetPageRequest.of(0, 2));
     }
 
     @Test
     @DisplayName("인기 태그가 없을 경우 빈 리스트를 반환한다")
     void findPopularTagsEmpty() {
         // given
-        when(tagRepository.findPopularTags()).thenReturn(Collections.emptyList());
+        ReflectionTestUtils.setField(tagService, "popularLimit", 20);
+        when(tagRepository.findPopularTagNames(OffsetPageRequest.of(0, 20))).thenReturn(Collections.emptyList());
 
         // when
-        List<String> result = tagService.findPopularTags();
+        PopularTags result = tagService.findPopularTags();
 
         // then
-        assertThat(result).isEmpty();
-        verify(tagRepository).findPopularTags();
+        assertThat(result.getTags()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ETag는 태그 목록이 같으면 같고 순서나 내용이 바뀌면 달라진다")
+    void popularTagsEtag() {
+        String etag = PopularTags.of(List.of("dragons", "training")).getEtag();
+
+        assertThat(PopularTags.of(List.of("dragons", "training")).getEtag()).isEqualTo(etag);
+        assertThat(PopularTags.of(List.of("training", "dragons")).getEtag()).isNotEqualTo(etag);
+        assertThat(PopularTags.of(List.of("dragons", "coding")).getEtag()).isNotEqualTo(etag);
     }
 }
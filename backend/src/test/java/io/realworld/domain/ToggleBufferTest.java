@@ -0,0 +1,141 @@
+package io.realworld.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ToggleBuffer 단위 테스트
+ */
+class ToggleBufferTest {
+
+    private final ToggleBuffer buffer = new ToggleBuffer();
+    private final ToggleKey key = new ToggleKey(1L, 10L);
+
+    @Test
+    @DisplayName("같은 키의 연속 요청은 마지막 상태만 남긴다")
+    void keepsLastState() {
+        // when
+        buffer.toggle(key, true, () -> false);
+        buffer.toggle(key, true, () -> false);
+
+        // then
+        assertThat(buffer.snapshot()).containsExactly(Map.entry(key, true));
+        assertThat(buffer.delta(10L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 상태로 되돌리는 요청은 증감분이 상쇄된다")
+    void cancelsOutToPersistedState() {
+        // when
+        buffer.toggle(key, true, () -> false);
+        buffer.toggle(key, false, () -> false);
+
+        // then
+        assertThat(buffer.pendingState(key)).isFalse();
+        assertThat(buffer.delta(10L)).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 상태와 같은 요청은 기록하지 않는다")
+    void ignoresNoOpToggle() {
+        // when
+        buffer.toggle(key, true, () -> true);
+
+        // then
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.delta(10L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 완료 시 반영한 상태의 요청과 증감분을 제거한다")
+    void completeRemovesAppliedState() {
+        // given
+        buffer.toggle(key, true, () -> false);
+
+        // when
+        buffer.complete(key, true, 1);
+
+        // then
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.delta(10L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 중 들어온 새 요청은 다음 반영까지 남는다")
+    void completeKeepsNewerState() {
+        // given
+        buffer.toggle(key, true, () -> false);
+        Map<ToggleKey, Boolean> batch = buffer.snapshot();
+        buffer.toggle(key, false, () -> false);
+
+        // when
+        buffer.complete(key, batch.get(key), 1);
+
+        // then
+        assertThat(buffer.pendingState(key)).isFalse();
+        assertThat(buffer.delta(10L)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 DB 상태 조회 중인 요청을 기다리지 않고, 최종 상태와 증감분이 한 번만 반영된다")
+    void concurrentTogglesOnSameKey() throws Exception {
+        // given
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> buffer.toggle(key, true, () -> {
+            reading.countDown();
+            await(release);
+            return false;
+        }));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Void> fast = CompletableFuture.runAsync(() -> buffer.toggle(key, true, () -> false));
+        fast.get(5, TimeUnit.SECONDS);
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(buffer.pendingState(key)).isTrue();
+        assertThat(buffer.delta(10L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 상태 조회 중에 다른 요청이 반영 완료되면 DB 상태를 다시 조회한다")
+    void rereadsPersistedStateAfterConcurrentComplete() {
+        // given
+        AtomicInteger reads = new AtomicInteger();
+
+        // when
+        buffer.toggle(key, true, () -> {
+            if (reads.getAndIncrement() == 0) {
+                // 조회 직후 다른 요청이 같은 상태를 DB에 반영하고 완료됨
+                buffer.toggle(key, true, () -> false);
+                buffer.complete(key, true, 1);
+                return false;
+            }
+            return true;
+        });
+
+        // then
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.delta(10L)).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
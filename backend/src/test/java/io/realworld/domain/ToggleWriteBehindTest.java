@@ -0,0 +1,124 @@
+package io.realworld.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ToggleWriteBehind 단위 테스트 (팔로워 2명부터 fan-out-on-read)
+ */
+@ExtendWith(MockitoExtension.class)
+class ToggleWriteBehindTest {
+
+    private static final int FANOUT_THRESHOLD = 2;
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FeedEntryRepository feedEntryRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ToggleWriteBehind toggleWriteBehind;
+
+    private User author;
+    private User firstReader;
+    private User secondReader;
+
+    @BeforeEach
+    void setUp() {
+        FeedService feedService = new FeedService(feedEntryRepository, articleRepository, userRepository);
+        ReflectionTestUtils.setField(feedService, "fanoutThreshold", FANOUT_THRESHOLD);
+        toggleWriteBehind = new ToggleWriteBehind(favoriteRepository, followRepository, articleRepository,
+                userRepository, feedService, cacheManager, new TransactionTemplate(transactionManager));
+
+        author = createUser(1L, "author", 0);
+        firstReader = createUser(2L, "first", 0);
+        secondReader = createUser(3L, "second", 0);
+        // 같은 트랜잭션에서는 영속성 컨텍스트가 같은 엔티티를 돌려준다
+        when(userRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(userRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> invocation.getArgument(0).equals(2L) ? firstReader : secondReader);
+    }
+
+    @Test
+    @DisplayName("한 번에 반영한 두 언팔로우로 임계값 아래로 내려가면 남은 팔로워 피드를 채운다")
+    void backfillsWhenTwoUnfollowsInOneFlushCrossThreshold() {
+        // given
+        ReflectionTestUtils.setField(author, "followersCount", FANOUT_THRESHOLD + 1);
+        when(followRepository.existsByFollowerAndFollowing(firstReader, author)).thenReturn(true);
+        when(followRepository.existsByFollowerAndFollowing(secondReader, author)).thenReturn(true);
+        when(followRepository.deleteByIds(anyLong(), anyLong())).thenReturn(1);
+        when(userRepository.decrementFollowersCount(1L)).thenReturn(1);
+        when(feedEntryRepository.backfillFollowers(1L)).thenReturn(0);
+        toggleWriteBehind.follow(firstReader, author, false);
+        toggleWriteBehind.follow(secondReader, author, false);
+
+        // when
+        toggleWriteBehind.flush();
+
+        // then
+        assertThat(author.getFollowersCount()).isEqualTo(FANOUT_THRESHOLD - 1);
+        verify(userRepository, times(2)).decrementFollowersCount(1L);
+        verify(feedEntryRepository).backfillFollowers(1L);
+    }
+
+    @Test
+    @DisplayName("팔로우로 임계값에 도달하면 증가된 팔로워 수로 판단하여 피드를 채우지 않는다")
+    void followReachingThresholdSkipsBackfill() {
+        // given
+        ReflectionTestUtils.setField(author, "followersCount", FANOUT_THRESHOLD - 1);
+        when(followRepository.existsByFollowerAndFollowing(firstReader, author)).thenReturn(false);
+        when(followRepository.insertIfAbsent(2L, 1L)).thenReturn(1);
+        when(userRepository.incrementFollowersCount(1L)).thenReturn(1);
+        toggleWriteBehind.follow(firstReader, author, true);
+
+        // when
+        toggleWriteBehind.flush();
+
+        // then
+        assertThat(author.getFollowersCount()).isEqualTo(FANOUT_THRESHOLD);
+        verify(feedEntryRepository, never()).backfill(anyLong(), anyLong());
+    }
+
+    private User createUser(Long id, String username, int followersCount) {
+        User user = User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        ReflectionTestUtils.setField(user, "followersCount", followersCount);
+        return user;
+    }
+}
@@ -9,6 +9,8 @@ import io.realworld.api.exception.DuplicateUsernameException;
 import io.realworld.api.exception.InvalidCredentialsException;
 import io.realworld.api.exception.ResourceNotFoundException;
 import io.realworld.security.JwtTokenProvider;
+import io.realworld.security.PrincipalCache;
+import io.realworld.security.TokenRenewer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -48,6 +51,12 @@ class UserServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenRenewer tokenRenewer;
+
     @InjectMocks
     private UserService userService;
 
@@ -202,10 +211,10 @@ class UserServiceTest {
         String username = "testuser";
 
         when(userRepository.findByUsername(username)).thenReturn(Optional.of(testUser));
-        when(jwtTokenProvider.generateToken(any(Authentication.class))).thenReturn(testToken);
+        when(tokenRenewer.renewIfNeeded(null, username)).thenReturn(testToken);
 
         // when
-        UserResponse response = userService.getCurrentUser(username);
+        UserResponse response = userService.getCurrentUser(username, null);
 
         // then
         assertThat(response).isNotNull();
@@ -214,6 +223,24 @@ class UserServiceTest {
         assertThat(response.getToken()).isEqualTo(testToken);
     }
 
+    @Test
+    @DisplayName("현재 사용자 조회 시 재사용 가능한 토큰은 그대로 반환한다")
+    void getCurrentUserReusesToken() {
+        // given
+        String username = "testuser";
+        String currentToken = "current.jwt.token";
+
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(testUser));
+        when(tokenRenewer.renewIfNeeded(currentToken, username)).thenReturn(currentToken);
+
+        // when
+        UserResponse response = userService.getCurrentUser(username, currentToken);
+
+        // then
+        assertThat(response.getToken()).isEqualTo(currentToken);
+        verify(jwtTokenProvider, never()).generateToken(any(Authentication.class));
+    }
+
     @Test
     @DisplayName("존재하지 않는 사용자 조회 시 예외가 발생한다")
     void getCurrentUserNotFound() {
@@ -223,7 +250,7 @@ class UserServiceTest {
         when(userRepository.findByUsername(username)).thenReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> userService.getCurrentUser(username))
+        assertThatThrownBy(() -> userService.getCurrentUser(username, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("User not found");
     }
@@ -256,6 +283,7 @@ class UserServiceTest {
         assertThat(response.getToken()).isEqualTo(testToken);
         verify(userRepository).save(any(User.class));
         verify(passwordEncoder).encode(request.getPassword());
+        verify(principalCache).evict(username);
     }
 
     @Test
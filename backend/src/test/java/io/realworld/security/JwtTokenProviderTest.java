@@ -8,6 +8,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.User;
 
 import java.util.ArrayList;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -16,6 +17,8 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 class JwtTokenProviderTest {
 
+    private static final String SECRET = "realworld-secret-key-for-jwt-token-signing-minimum-256-bits-required";
+
     private JwtTokenProvider jwtTokenProvider;
 
     @BeforeEach
@@ -120,4 +123,59 @@ class JwtTokenProviderTest {
         // then
         assertThat(isValid).isFalse();
     }
+
+    @Test
+    @DisplayName("JWT 토큰을 한 번 파싱하여 사용자 이름과 만료 시각을 얻을 수 있다")
+    void parseAndValidate() {
+        // given
+        String token = jwtTokenProvider.generateToken(authenticationOf("testuser"));
+
+        // when
+        Optional<VerifiedToken> verified = jwtTokenProvider.parseAndValidate(token);
+
+        // then
+        assertThat(verified).isPresent();
+        assertThat(verified.get().getSubject()).isEqualTo("testuser");
+        assertThat(verified.get().getExpiration()).isAfter(verified.get().getIssuedAt());
+    }
+
+    @Test
+    @DisplayName("검증 캐시가 활성화되면 같은 토큰은 캐시된 검증 결과를 재사용한다")
+    void parseAndValidateCached() {
+        // given
+        JwtTokenProvider cachingProvider = new JwtTokenProvider(SECRET, 3600000L, 100);
+        String token = cachingProvider.generateToken(authenticationOf("testuser"));
+
+        // when
+        VerifiedToken first = cachingProvider.parseAndValidate(token).orElseThrow();
+        VerifiedToken second = cachingProvider.parseAndValidate(token).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 JWT 토큰은 검증 캐시가 있어도 검증에 실패한다")
+    void parseAndValidateTamperedToken() {
+        // given
+        JwtTokenProvider cachingProvider = new JwtTokenProvider(SECRET, 3600000L, 100);
+        String token = cachingProvider.generateToken(authenticationOf("testuser"));
+        cachingProvider.parseAndValidate(token);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when
+        Optional<VerifiedToken> verified = cachingProvider.parseAndValidate(tampered);
+
+        // then
+        assertThat(verified).isEmpty();
+    }
+
+    private Authentication authenticationOf(String username) {
+        return new UsernamePasswordAuthenticationToken(
+                new User(username, "password", new ArrayList<>()),
+                null,
+                new ArrayList<>()
+        );
+    }
 }
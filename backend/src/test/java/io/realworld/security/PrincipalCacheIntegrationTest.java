@@ -0,0 +1,110 @@
+package io.realworld.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.realworld.api.dto.RegisterRequest;
+import io.realworld.api.dto.UpdateUserRequest;
+import io.realworld.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * principal 캐시를 켠 상태의 인증 통합 테스트
+ */
+@SpringBootTest(properties = "security.principal-cache.enabled=true")
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class PrincipalCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userRepository.deleteAll();
+        MvcResult result = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new RegisterRequest("cacheduser", "cached@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = extractToken(result);
+
+        // principal 캐시에 적재
+        mockMvc.perform(get("/api/user").header("Authorization", "Token " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("사용자명을 바꾸면 캐시된 principal이 무효화되어 이전 사용자명의 토큰으로는 인증되지 않는다")
+    void evictsPrincipalAfterUsernameChange() throws Exception {
+        // given
+        String newToken = extractToken(updateUser(
+                new UpdateUserRequest(null, "renameduser", null, null, null)));
+
+        // when & then
+        mockMvc.perform(get("/api/user").header("Authorization", "Token " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/user").header("Authorization", "Token " + newToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.username").value("renameduser"));
+    }
+
+    @Test
+    @DisplayName("프로필을 수정한 뒤의 요청은 캐시된 principal이 아니라 새로 조회한 사용자를 사용한다")
+    void usesFreshUserAfterProfileUpdate() throws Exception {
+        // given
+        updateUser(new UpdateUserRequest(null, null, null, "Updated bio", null));
+
+        // when & then
+        Map<String, Object> request = Map.of("article", Map.of(
+                "title", "Cached principal",
+                "description", "description",
+                "body", "body"));
+        mockMvc.perform(post("/api/articles")
+                        .header("Authorization", "Token " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.article.author.username").value("cacheduser"))
+                .andExpect(jsonPath("$.article.author.bio").value("Updated bio"));
+    }
+
+    private MvcResult updateUser(UpdateUserRequest request) throws Exception {
+        return mockMvc.perform(put("/api/user")
+                        .header("Authorization", "Token " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private String extractToken(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("user").get("token").asText();
+    }
+}
@@ -0,0 +1,102 @@
+package io.realworld.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.realworld.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PrincipalCache 테스트
+ */
+class PrincipalCacheTest {
+
+    private AtomicInteger loadCount;
+    private Function<String, AuthenticatedUser> loader;
+
+    @BeforeEach
+    void setUp() {
+        loadCount = new AtomicInteger();
+        loader = username -> {
+            loadCount.incrementAndGet();
+            return new AuthenticatedUser(User.builder()
+                    .username(username)
+                    .email(username + "@example.com")
+                    .password("encodedPassword")
+                    .build());
+        };
+    }
+
+    @Test
+    @DisplayName("같은 사용자명은 캐시된 principal을 재사용한다")
+    void getCachedPrincipal() {
+        // given
+        PrincipalCache principalCache = newCache(true);
+
+        // when
+        AuthenticatedUser first = principalCache.get("testuser", loader);
+        AuthenticatedUser second = principalCache.get("testuser", loader);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 principal을 다시 로드한다")
+    void evictPrincipal() {
+        // given
+        PrincipalCache principalCache = newCache(true);
+        principalCache.get("testuser", loader);
+
+        // when
+        principalCache.evict("testuser");
+        principalCache.get("testuser", loader);
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 매번 principal을 로드한다")
+    void disabledCache() {
+        // given
+        PrincipalCache principalCache = newCache(false);
+
+        // when
+        principalCache.get("testuser", loader);
+        principalCache.get("testuser", loader);
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("로드하는 동안 무효화되면 로드한 principal을 캐시하지 않는다")
+    void doesNotCachePrincipalEvictedWhileLoading() {
+        // given
+        PrincipalCache principalCache = newCache(true);
+        Function<String, AuthenticatedUser> evictingLoader = username -> {
+            AuthenticatedUser loaded = loader.apply(username);
+            principalCache.evict(username);
+            return loaded;
+        };
+
+        // when
+        principalCache.get("testuser", evictingLoader);
+        principalCache.get("testuser", loader);
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    private PrincipalCache newCache(boolean enabled) {
+        return new PrincipalCache(enabled, Duration.ofSeconds(30), 100, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,83 @@
+package io.realworld.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenRenewer 테스트
+ */
+class TokenRenewerTest {
+
+    private static final String SECRET = "realworld-secret-key-for-jwt-token-signing-minimum-256-bits-required";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3600000L);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("남은 유효 기간이 충분하면 현재 토큰을 재사용한다")
+    void reuseToken() {
+        // given
+        TokenRenewer tokenRenewer = new TokenRenewer(jwtTokenProvider, 0.5, meterRegistry);
+        String currentToken = issue("testuser");
+
+        // when
+        String token = tokenRenewer.renewIfNeeded(currentToken, "testuser");
+
+        // then
+        assertThat(token).isEqualTo(currentToken);
+        assertThat(count("reused")).isEqualTo(1.0);
+        assertThat(count("issued")).isZero();
+    }
+
+    @Test
+    @DisplayName("남은 유효 기간이 기준보다 짧으면 새 토큰을 발급한다")
+    void issueTokenNearExpiry() {
+        // given
+        TokenRenewer tokenRenewer = new TokenRenewer(jwtTokenProvider, 1.0, meterRegistry);
+        String currentToken = issue("testuser");
+
+        // when
+        String token = tokenRenewer.renewIfNeeded(currentToken, "testuser");
+
+        // then
+        assertThat(jwtTokenProvider.getUsernameFromToken(token)).isEqualTo("testuser");
+        assertThat(count("issued")).isEqualTo(1.0);
+        assertThat(count("reused")).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 토큰이나 유효하지 않은 토큰은 재사용하지 않는다")
+    void issueTokenForInvalidToken() {
+        // given
+        TokenRenewer tokenRenewer = new TokenRenewer(jwtTokenProvider, 0.5, meterRegistry);
+        String otherToken = issue("otheruser");
+
+        // when
+        String fromOther = tokenRenewer.renewIfNeeded(otherToken, "testuser");
+        String fromInvalid = tokenRenewer.renewIfNeeded("invalid.jwt.token", "testuser");
+
+        // then
+        assertThat(jwtTokenProvider.getUsernameFromToken(fromOther)).isEqualTo("testuser");
+        assertThat(jwtTokenProvider.getUsernameFromToken(fromInvalid)).isEqualTo("testuser");
+        assertThat(count("issued")).isEqualTo(2.0);
+    }
+
+    private String issue(String username) {
+        return jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(username, null));
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("jwt.tokens.renewal").tag("outcome", outcome).counter().count();
+    }
+}
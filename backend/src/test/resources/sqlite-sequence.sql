@@ -0,0 +1,5 @@
+-- Hibernate가 생성한 테이블에는 AUTOINCREMENT가 없어 sqlite_sequence가 만들어지지 않으므로,
+-- 이를 참조하는 마이그레이션(V13)을 실행할 수 있도록 임시 AUTOINCREMENT 테이블로 생성해 둔다
+CREATE TABLE autoincrement_init (id INTEGER PRIMARY KEY AUTOINCREMENT);
+
+DROP TABLE autoincrement_init;